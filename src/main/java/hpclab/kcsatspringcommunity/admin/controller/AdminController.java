@@ -6,13 +6,16 @@ import hpclab.kcsatspringcommunity.community.domain.Member;
 import hpclab.kcsatspringcommunity.community.dto.CommentResponseForm;
 import hpclab.kcsatspringcommunity.community.dto.MemberDetailsResponseForm;
 import hpclab.kcsatspringcommunity.community.dto.MemberResponseForm;
+import hpclab.kcsatspringcommunity.community.dto.PostCountForm;
 import hpclab.kcsatspringcommunity.community.dto.PostResponseForm;
 import hpclab.kcsatspringcommunity.community.service.MemberService;
+import hpclab.kcsatspringcommunity.community.service.PostService;
 import hpclab.kcsatspringcommunity.exception.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -30,6 +33,7 @@ import java.util.List;
  *     <li>회원 작성 글 / 댓글 목록 조회</li>
  *     <li>제작 문제 신고 사항 조회</li>
  *     <li>문제 건의 사항 조회</li>
+ *     <li>게시글 추천/비추천수 재계산</li>
  * </ul>
  */
 @RestController
@@ -39,6 +43,7 @@ public class AdminController {
 
     private final MemberService memberService;
     private final UserRequestService userRequestService;
+    private final PostService postService;
 
     /**
      * 모든 회원 요구 사항을 불러옵니다.
@@ -104,4 +109,16 @@ public class AdminController {
 
         return ResponseEntity.ok(new ApiResponse<>(true, comments, null, null));
     }
-}
\ No newline at end of file
+
+    /**
+     * 게시글 추천/비추천수를 추천 장부 기준으로 다시 계산합니다.
+     * 카운터가 장부와 어긋난 게시글을 새벽 보정 전에 바로 복구할 때 사용합니다.
+     *
+     * @param pId 게시글 ID
+     * @return 다시 계산된 게시글 카운터 정보
+     */
+    @PostMapping("/posts/{pId}/vote/recount")
+    public ResponseEntity<ApiResponse<PostCountForm>> recountPostVote(@PathVariable Long pId) {
+        return ResponseEntity.ok(new ApiResponse<>(true, postService.recountPostVote(pId), null, null));
+    }
+}
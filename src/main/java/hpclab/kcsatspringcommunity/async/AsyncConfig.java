@@ -0,0 +1,148 @@
+package hpclab.kcsatspringcommunity.async;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 요청 안에서 여러 조회 작업을 동시에 실행하기 위한 스레드 풀을 설정하는 클래스입니다.
+ * 스트리밍 응답(StreamingResponseBody)처럼 요청 스레드 밖에서 실행되는 MVC 비동기 작업의 스레드 풀도 설정합니다.
+ * 게시글 실시간 알림을 구독 연결로 전달하는 스레드 풀과, 검색 색인을 새로 만드는 스레드 풀도 설정합니다.
+ */
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+    /**
+     * 게시글 상세 조회 스레드 풀 기본 스레드 수
+     */
+    @Value("${community.async.post-detail.core-pool-size:8}")
+    private int corePoolSize;
+
+    /**
+     * 게시글 상세 조회 스레드 풀 최대 스레드 수
+     */
+    @Value("${community.async.post-detail.max-pool-size:32}")
+    private int maxPoolSize;
+
+    /**
+     * 게시글 상세 조회 작업 대기열 크기
+     */
+    @Value("${community.async.post-detail.queue-capacity:200}")
+    private int queueCapacity;
+
+    /**
+     * MVC 비동기 작업 스레드 풀 기본 스레드 수
+     */
+    @Value("${community.async.mvc.core-pool-size:4}")
+    private int mvcCorePoolSize;
+
+    /**
+     * MVC 비동기 작업 스레드 풀 최대 스레드 수
+     */
+    @Value("${community.async.mvc.max-pool-size:16}")
+    private int mvcMaxPoolSize;
+
+    /**
+     * MVC 비동기 작업 대기열 크기
+     */
+    @Value("${community.async.mvc.queue-capacity:100}")
+    private int mvcQueueCapacity;
+
+    /**
+     * MVC 비동기 작업 제한 시간 (밀리초)
+     */
+    @Value("${community.async.mvc.timeout-ms:60000}")
+    private long mvcTimeoutMs;
+
+    /**
+     * 게시글 실시간 알림 전달 스레드 풀 스레드 수
+     */
+    @Value("${community.async.post-live.pool-size:4}")
+    private int livePoolSize;
+
+    /**
+     * 게시글 실시간 알림 전달 작업 대기열 크기
+     */
+    @Value("${community.async.post-live.queue-capacity:1000}")
+    private int liveQueueCapacity;
+
+    /**
+     * 게시글 상세 정보(게시글, 댓글, 카운터, 내 투표)를 동시에 조회하는 스레드 풀 Bean입니다.
+     *
+     * - 스레드 수와 대기열 크기를 제한하여, 요청이 몰려도 DB 커넥션 풀과 Redis 연결을 고갈시키지 않도록 합니다.
+     * - 대기열까지 가득 찬 경우, 요청 스레드가 직접 작업을 실행합니다. (CallerRunsPolicy)
+     * - 서버 종료 시 실행 중인 작업이 끝날 때까지 기다립니다.
+     */
+    @Bean(name = "postDetailExecutor")
+    public ThreadPoolTaskExecutor postDetailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("post-detail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 댓글 스트리밍 등 MVC 비동기 응답을 실행하는 스레드 풀 Bean입니다.
+     * 별도 설정이 없으면 요청마다 스레드를 새로 만드는 실행기가 사용되므로, 스레드 수와 대기열 크기를 제한합니다.
+     */
+    @Bean(name = "mvcAsyncExecutor")
+    public ThreadPoolTaskExecutor mvcAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mvcCorePoolSize);
+        executor.setMaxPoolSize(mvcMaxPoolSize);
+        executor.setQueueCapacity(mvcQueueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Redis 채널로 받은 게시글 실시간 알림을 구독 연결(SseEmitter)로 전달하는 스레드 풀 Bean입니다.
+     *
+     * - 느린 구독 연결에 쓰는 동안 Redis 메시지 수신 스레드가 막히지 않도록, 전달은 이 스레드 풀에서 실행합니다.
+     * - 대기열까지 가득 찬 경우 작업을 거절합니다. 수신 스레드가 직접 실행하면 다시 막히기 때문입니다.
+     */
+    @Bean(name = "postLiveExecutor")
+    public ThreadPoolTaskExecutor postLiveExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(livePoolSize);
+        executor.setMaxPoolSize(livePoolSize);
+        executor.setQueueCapacity(liveQueueCapacity);
+        executor.setThreadNamePrefix("post-live-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 검색 색인을 새로 만드는 스레드 풀 Bean입니다.
+     * 서버 시작 이벤트 스레드를 막지 않도록 재생성은 이 스레드 풀에서 실행하며, 한 번에 하나만 실행합니다.
+     */
+    @Bean(name = "searchIndexExecutor")
+    public ThreadPoolTaskExecutor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("search-index-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor());
+        configurer.setDefaultTimeout(mvcTimeoutMs);
+    }
+}
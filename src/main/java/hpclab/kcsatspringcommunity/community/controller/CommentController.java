@@ -1,15 +1,22 @@
 package hpclab.kcsatspringcommunity.community.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import hpclab.kcsatspringcommunity.util.JWTUtil;
+import hpclab.kcsatspringcommunity.community.dto.CommentCursorPageForm;
 import hpclab.kcsatspringcommunity.community.dto.CommentDetailForm;
+import hpclab.kcsatspringcommunity.community.dto.CommentResponseForm;
 import hpclab.kcsatspringcommunity.community.dto.CommentWriteForm;
 import hpclab.kcsatspringcommunity.community.service.CommentService;
 import hpclab.kcsatspringcommunity.exception.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 import static hpclab.kcsatspringcommunity.util.JWTUtil.USER_EMAIL;
 import static hpclab.kcsatspringcommunity.exception.SuccessCode.COMMENT_DELETE_SUCCESS;
@@ -22,6 +29,7 @@ import static hpclab.kcsatspringcommunity.exception.SuccessCode.COMMENT_DELETE_S
  *     <li>댓글 작성/삭제</li>
  *     <li>댓글 추천/비추천</li>
  *     <li>댓글, 인기 댓글 조회</li>
+ *     <li>댓글 커서 기반 조회, 전체 댓글 스트리밍</li>
  * </ul>
  */
 @Slf4j
@@ -34,6 +42,13 @@ public class CommentController {
 
     private final JWTUtil jwtUtil;
 
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 댓글 스트리밍 시 한 번에 조회하는 댓글 수
+     */
+    private static final int COMMENT_STREAM_BATCH_SIZE = 500;
+
     /**
      * 회원 커뮤니티 게시판 댓글 정보를 상세 조회하는 메서드입니다.
      *
@@ -45,6 +60,55 @@ public class CommentController {
         return ResponseEntity.ok(new ApiResponse<>(true, commentService.getAllComments(pId), null, null));
     }
 
+    /**
+     * 회원 커뮤니티 게시판 댓글을 커서 기반으로 나누어 조회하는 메서드입니다.
+     * 첫 페이지에는 인기 댓글이 함께 담기며, 다음 페이지는 응답의 nextCursorId를 cursorId로 넘겨 조회합니다.
+     *
+     * @param pId 게시글 ID
+     * @param cursorId 이전 페이지 마지막 댓글 ID (첫 페이지라면 생략)
+     * @param size 페이지 크기
+     * @return 해당 페이지의 댓글 목록과 다음 페이지 커서를 반환합니다.
+     */
+    @GetMapping("/post/{pId}/comment/cursor")
+    public ResponseEntity<ApiResponse<CommentCursorPageForm>> getCommentsByCursor(@PathVariable Long pId,
+                                                                                @RequestParam(required = false) Long cursorId,
+                                                                                @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(new ApiResponse<>(true, commentService.getCommentsByCursor(pId, cursorId, size), null, null));
+    }
+
+    /**
+     * 회원 커뮤니티 게시판 게시글의 전체 댓글을 NDJSON(한 줄에 댓글 하나)으로 스트리밍하는 메서드입니다.
+     * 댓글 내보내기, 관리자 조회처럼 댓글 전체가 필요한 경우에 사용합니다.
+     * 댓글을 배치 단위로 조회해 바로 응답에 쓰므로, 댓글 수와 상관없이 서버 메모리 사용량과 DB 커넥션 점유 시간이 일정합니다.
+     *
+     * @param pId 게시글 ID
+     * @return 댓글을 한 줄씩 담은 스트리밍 응답을 반환합니다.
+     */
+    @GetMapping(value = "/post/{pId}/comment/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamComments(@PathVariable Long pId) {
+        StreamingResponseBody body = outputStream -> {
+            Long cursorId = null;
+            List<CommentResponseForm> batch;
+
+            do {
+                batch = commentService.getCommentBatch(pId, cursorId, COMMENT_STREAM_BATCH_SIZE);
+                for (CommentResponseForm comment : batch) {
+                    outputStream.write(objectMapper.writeValueAsBytes(comment));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+
+                if (!batch.isEmpty()) {
+                    cursorId = batch.get(batch.size() - 1).getCId();
+                }
+            } while (batch.size() == COMMENT_STREAM_BATCH_SIZE);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * 회원 커뮤니티 게시판 게시글에 댓글을 작성하는 메서드입니다.
      *
@@ -1,15 +1,18 @@
 package hpclab.kcsatspringcommunity.community.controller;
 
 import hpclab.kcsatspringcommunity.util.JWTUtil;
+import hpclab.kcsatspringcommunity.community.dto.PostCursorPageForm;
+import hpclab.kcsatspringcommunity.community.dto.PostDetailForm;
 import hpclab.kcsatspringcommunity.community.dto.PostResponseForm;
+import hpclab.kcsatspringcommunity.community.dto.PostSummaryForm;
 import hpclab.kcsatspringcommunity.community.dto.PostWriteForm;
+import hpclab.kcsatspringcommunity.community.service.PostDetailService;
 import hpclab.kcsatspringcommunity.community.service.PostService;
 import hpclab.kcsatspringcommunity.exception.ApiException;
 import hpclab.kcsatspringcommunity.exception.ApiResponse;
 import hpclab.kcsatspringcommunity.exception.ErrorCode;
 import hpclab.kcsatspringcommunity.myBook.dto.BookResponseForm;
 import hpclab.kcsatspringcommunity.myBook.service.BookService;
-import hpclab.kcsatspringcommunity.question.domain.Question;
 import hpclab.kcsatspringcommunity.question.domain.QuestionType;
 import hpclab.kcsatspringcommunity.question.dto.QuestionResponseForm;
 import hpclab.kcsatspringcommunity.question.service.QuestionService;
@@ -19,10 +22,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 import static hpclab.kcsatspringcommunity.util.JWTUtil.USER_EMAIL;
 import static hpclab.kcsatspringcommunity.exception.SuccessCode.POST_DELETE_SUCCESS;
 
@@ -33,6 +39,7 @@ import static hpclab.kcsatspringcommunity.exception.SuccessCode.POST_DELETE_SUCC
  * <ul>
  *     <li>게시글 목록 조회</li>
  *     <li>게시글 상세 정보 조회</li>
+ *     <li>게시글 상세 화면 정보(게시글, 댓글, 카운터) 한 번에 조회</li>
  *     <li>게시글 작성/수정/삭제</li>
  *     <li>게시글 작성 시 자신이 만든 문제 첨부 가능</li>
  *     <li>댓글 작성/삭제</li>
@@ -48,6 +55,7 @@ import static hpclab.kcsatspringcommunity.exception.SuccessCode.POST_DELETE_SUCC
 public class PostController {
 
     private final PostService postService;
+    private final PostDetailService postDetailService;
     private final QuestionService questionService;
     private final BookService bookService;
 
@@ -67,7 +75,7 @@ public class PostController {
      * @return 게시글 목록을 Page 단위로 묶어서 반환합니다.
      */
     @GetMapping("/open/board")
-    public ResponseEntity<ApiResponse<Page<PostResponseForm>>> getPostListByPage(@RequestParam(defaultValue = "0") int page,
+    public ResponseEntity<ApiResponse<Page<PostSummaryForm>>> getPostListByPage(@RequestParam(defaultValue = "0") int page,
                                                                                  @RequestParam(defaultValue = "10") int size,
                                                                                  @RequestParam(defaultValue = "pId,DESC") String sort,
                                                                                  @RequestParam(required = false) String keyword,
@@ -91,16 +99,17 @@ public class PostController {
      * 회원 커뮤니티 인기글 게시판 게시글 목록을 Page 갯수 단위로 조회하는 메서드입니다.
      * 기본 크기는 10개 단위로 조회합니다.
      * 검색어 파라미터를 넣는 경우, 검색어 조건에 맞는 게시글만 검색하여 조회합니다.
+     * 검색어 없이 조회하는 경우, Redis 인기 게시판에서 인기도 순으로 조회합니다. (정렬 기준 무시)
      *
      * @param page 페이지 번호 (기본값 0)
      * @param size 페이지 크기 (기본값 10)
-     * @param sort 정렬 기준 (기본값 pId 내림차순)
+     * @param sort 정렬 기준 (기본값 pId 내림차순, 검색어가 있는 경우에만 적용)
      * @param keyword 검색어 (optional)
      * @param type 타입 필터 (optional)
      * @return 게시글 목록을 Page 단위로 묶어서 반환합니다.
      */
     @GetMapping("/open/board/hot")
-    public ResponseEntity<ApiResponse<Page<PostResponseForm>>> hotBoard(@RequestParam(defaultValue = "0") int page,
+    public ResponseEntity<ApiResponse<Page<PostSummaryForm>>> hotBoard(@RequestParam(defaultValue = "0") int page,
                                                            @RequestParam(defaultValue = "10") int size,
                                                            @RequestParam(defaultValue = "pId,DESC") String sort,
                                                            @RequestParam(required = false) String keyword,
@@ -120,6 +129,50 @@ public class PostController {
         }
     }
 
+    /**
+     * 회원 커뮤니티 게시판 게시글 목록을 커서 기반으로 조회하는 메서드입니다.
+     * 첫 페이지는 커서 없이 요청하고, 이후에는 응답으로 받은 nextCursorDate, nextCursorId를 그대로 넘기면 됩니다.
+     * 페이지 번호 방식과 달리 OFFSET, COUNT 쿼리를 사용하지 않아 스크롤 깊이와 상관없이 응답 속도가 일정합니다.
+     *
+     * @param cursorDate 이전 페이지 마지막 게시글 작성 시간 (optional)
+     * @param cursorId 이전 페이지 마지막 게시글 ID (optional)
+     * @param size 페이지 크기 (기본값 10)
+     * @param keyword 검색어 (optional)
+     * @param type 타입 필터 (optional)
+     * @return 게시글 목록과 다음 페이지 커서를 반환합니다.
+     */
+    @GetMapping("/open/board/cursor")
+    public ResponseEntity<ApiResponse<PostCursorPageForm>> getPostListByCursor(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+                                                                               @RequestParam(required = false) Long cursorId,
+                                                                               @RequestParam(defaultValue = "10") int size,
+                                                                               @RequestParam(required = false) String keyword,
+                                                                               @RequestParam(required = false) QuestionType type
+                                                                    ) {
+
+        return ResponseEntity.ok(new ApiResponse<>(true, postService.getPostListByCursor(cursorDate, cursorId, size, keyword, type), null, null));
+    }
+
+    /**
+     * 회원 커뮤니티 인기글 게시판 게시글 목록을 커서 기반으로 조회하는 메서드입니다.
+     *
+     * @param cursorDate 이전 페이지 마지막 게시글 작성 시간 (optional)
+     * @param cursorId 이전 페이지 마지막 게시글 ID (optional)
+     * @param size 페이지 크기 (기본값 10)
+     * @param keyword 검색어 (optional)
+     * @param type 타입 필터 (optional)
+     * @return 인기 게시글 목록과 다음 페이지 커서를 반환합니다.
+     */
+    @GetMapping("/open/board/hot/cursor")
+    public ResponseEntity<ApiResponse<PostCursorPageForm>> hotBoardByCursor(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+                                                                            @RequestParam(required = false) Long cursorId,
+                                                                            @RequestParam(defaultValue = "10") int size,
+                                                                            @RequestParam(required = false) String keyword,
+                                                                            @RequestParam(required = false) QuestionType type
+                                                                    ) {
+
+        return ResponseEntity.ok(new ApiResponse<>(true, postService.getHotPostListByCursor(cursorDate, cursorId, size, keyword, type), null, null));
+    }
+
     /**
      * 회원 커뮤니티 게시판 게시글 정보를 상세 조회하는 메서드입니다.
      *
@@ -133,11 +186,26 @@ public class PostController {
 
         postService.increasePostViewCount(pId, userEmail);
 
-        PostResponseForm post = new PostResponseForm(postService.getPost(pId), Long.parseLong(postService.getPostViewCount(pId)));
+        PostResponseForm post = new PostResponseForm(postService.getPost(pId), postService.getPostCount(pId));
 
         return ResponseEntity.ok(new ApiResponse<>(true, post, null, null));
     }
 
+    /**
+     * 회원 커뮤니티 게시글 상세 화면 정보를 한 번에 조회하는 메서드입니다.
+     * 게시글, 댓글, 인기 댓글, 조회수/추천수/비추천수, 회원 투표 정보를 동시에 조회하여 하나의 응답으로 반환합니다.
+     *
+     * @param token 유저 JWT 토큰값
+     * @param pId 게시글 ID
+     * @return 게시글 상세 화면 정보를 반환합니다.
+     */
+    @GetMapping("/board/post/{pId}/detail")
+    public ResponseEntity<ApiResponse<PostDetailForm>> boardDetail(@RequestHeader(HttpHeaders.AUTHORIZATION) String token, @PathVariable Long pId) {
+        String userEmail = jwtUtil.getClaims(token).get(USER_EMAIL).toString();
+
+        return ResponseEntity.ok(new ApiResponse<>(true, postDetailService.getPostDetail(pId, userEmail), null, null));
+    }
+
     /**
      * 회원 커뮤니티 게시글 추천 수를 조회하는 메서드입니다.
      *
@@ -162,9 +230,23 @@ public class PostController {
     }
 
 
+    /**
+     * 회원이 게시글에 한 투표를 조회하는 메서드입니다.
+     *
+     * @param token 회원 JWT 토큰
+     * @param pId 게시글 ID
+     * @return 추천이라면 1, 비추천이라면 -1, 투표하지 않았다면 0을 반환합니다.
+     */
+    @GetMapping("/board/post/{pId}/vote/me")
+    public ResponseEntity<ApiResponse<Integer>> getMyVotePost(@RequestHeader(HttpHeaders.AUTHORIZATION) String token, @PathVariable Long pId) {
+        String userEmail = jwtUtil.getClaims(token).get(USER_EMAIL).toString();
+        return ResponseEntity.ok(new ApiResponse<>(true, postService.getMyPostVote(pId, userEmail), null, null));
+    }
+
+
     /**
      * 회원 커뮤니티 게시글을 추천하는 메서드입니다.
-     * 하루에 2번 이상 다시 추천/비추천할 수 없습니다. 자세한 사항은 postService 참조.
+     * 게시글마다 하나의 투표만 가능하며, 비추천했었다면 추천으로 변경됩니다. 자세한 사항은 postService 참조.
      *
      * @param token 회원 JWT 토큰
      * @param pId 게시글 ID
@@ -179,7 +261,7 @@ public class PostController {
 
     /**
      * 회원 커뮤니티 게시글을 비추천하는 메서드입니다.
-     * 하루에 2번 이상 다시 추천/비추천할 수 없습니다. 자세한 사항은 postService 참조.
+     * 게시글마다 하나의 투표만 가능하며, 추천했었다면 비추천으로 변경됩니다. 자세한 사항은 postService 참조.
      *
      * @param token 회원 JWT 토큰
      * @param pId 게시글 ID
@@ -205,7 +287,7 @@ public class PostController {
 
         Long pId = postService.savePost(form, userEmail);
 
-        PostResponseForm postResponseForm = new PostResponseForm(postService.getPost(pId), Long.parseLong(postService.getPostViewCount(pId)));
+        PostResponseForm postResponseForm = new PostResponseForm(postService.getPost(pId), postService.getPostCount(pId));
         return ResponseEntity.ok(new ApiResponse<>(true, postResponseForm, null, null));
     }
 
@@ -244,7 +326,7 @@ public class PostController {
     public ResponseEntity<ApiResponse<String>> removeBoard(@RequestHeader(HttpHeaders.AUTHORIZATION) String token, @PathVariable Long pId) {
         String userEmail = jwtUtil.getClaims(token).get(USER_EMAIL).toString();
 
-        PostResponseForm post = new PostResponseForm(postService.getPost(pId), Long.parseLong(postService.getPostViewCount(pId)));
+        PostResponseForm post = new PostResponseForm(postService.getPost(pId), postService.getPostCount(pId));
 
         if (!userEmail.equals(post.getEmail())) {
             throw new ApiException(ErrorCode.USER_VERIFICATION_FAILED);
@@ -294,8 +376,6 @@ public class PostController {
     @PostMapping("/board/post/uploadQuestion")
     public ResponseEntity<ApiResponse<QuestionResponseForm>> uploadUserQuestion(@RequestParam Long qId) {
 
-        Question question = questionService.getQuestion(qId);
-
-        return ResponseEntity.ok(new ApiResponse<>(true, new QuestionResponseForm(question), null, null));
+        return ResponseEntity.ok(new ApiResponse<>(true, new QuestionResponseForm(questionService.getQuestionDetails(qId)), null, null));
     }
 }
\ No newline at end of file
@@ -11,6 +11,9 @@ import lombok.NoArgsConstructor;
  * 회원 커뮤니티 게시판 게시글의 댓글 엔티티 객체입니다.
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_post_id_id", columnList = "post_id, id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
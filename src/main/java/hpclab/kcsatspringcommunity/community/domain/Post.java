@@ -14,6 +14,9 @@ import lombok.RequiredArgsConstructor;
  * 회원 커뮤니티 게시판의 게시글 정보를 담은 엔티티 객체입니다.
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_post_created_date_id", columnList = "created_date, id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -61,11 +64,19 @@ public class Post extends BaseTimeEntity {
 
     /**
      * 게시글에 첨부된 문제를 나타냅니다. 게시글:문제 다대일 매칭 관계입니다.
+     * 목록 조회 시 게시글마다 문제를 따로 조회하지 않도록 지연 로딩합니다. (상세 조회는 Fetch join 사용)
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "question_id")
     private Question question;
 
+    /**
+     * 게시글 댓글 수입니다. 목록 조회 시 댓글 COUNT 쿼리 없이 표시하기 위해 비정규화한 값입니다.
+     * 값은 Redis 카운터에서 주기적으로 반영하며, 엔티티로는 쓰지 않습니다. (PostCommentCountService 참조)
+     */
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private Long commentCount;
+
     /**
      * 게시글을 수정하는 경우, 엔티티를 갱신하는 메서드입니다.
      *
@@ -0,0 +1,22 @@
+package hpclab.kcsatspringcommunity.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Redis에 저장된 댓글 카운터(추천수, 비추천수)를 한 번에 담는 DTO 클래스입니다.
+ */
+@Data
+@AllArgsConstructor
+public class CommentCountForm {
+
+    /**
+     * 댓글 추천수
+     */
+    private Long upVoteCount;
+
+    /**
+     * 댓글 비추천수
+     */
+    private Long downVoteCount;
+}
@@ -0,0 +1,55 @@
+package hpclab.kcsatspringcommunity.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 커서(댓글 ID) 기반으로 조회한 댓글 목록을 반환하는 DTO 클래스입니다.
+ * 인기 댓글은 첫 페이지에만 담고, 다음 페이지를 조회할 때는 nextCursorId 값을 그대로 요청에 담아 보내면 됩니다.
+ */
+@Data
+@AllArgsConstructor
+public class CommentCursorPageForm {
+
+    /**
+     * 인기 댓글 모음 (첫 페이지에만 포함)
+     */
+    private List<CommentResponseForm> hotComments;
+
+    /**
+     * 인기 댓글 각각의 추천수
+     */
+    private List<String> hotCommentsUpVoteCounter;
+
+    /**
+     * 인기 댓글 각각의 비추천수
+     */
+    private List<String> hotCommentsDownVoteCounter;
+
+    /**
+     * 댓글 모음 (작성순)
+     */
+    private List<CommentResponseForm> comments;
+
+    /**
+     * 댓글 각각의 추천수
+     */
+    private List<String> commentsUpVoteCounter;
+
+    /**
+     * 댓글 각각의 비추천수
+     */
+    private List<String> commentsDownVoteCounter;
+
+    /**
+     * 다음 페이지 커서 (마지막 댓글 ID)
+     */
+    private Long nextCursorId;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+}
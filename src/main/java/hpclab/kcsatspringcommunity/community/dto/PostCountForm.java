@@ -0,0 +1,32 @@
+package hpclab.kcsatspringcommunity.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Redis에 저장된 게시글 카운터(조회수, 추천수, 비추천수, 댓글 수)를 한 번에 담는 DTO 클래스입니다.
+ */
+@Data
+@AllArgsConstructor
+public class PostCountForm {
+
+    /**
+     * 게시글 조회수
+     */
+    private Long viewCount;
+
+    /**
+     * 게시글 추천수
+     */
+    private Long upVoteCount;
+
+    /**
+     * 게시글 비추천수
+     */
+    private Long downVoteCount;
+
+    /**
+     * 게시글 댓글 수 (Redis 카운터가 아직 없다면 null)
+     */
+    private Long commentCount;
+}
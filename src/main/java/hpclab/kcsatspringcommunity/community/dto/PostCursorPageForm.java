@@ -0,0 +1,36 @@
+package hpclab.kcsatspringcommunity.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 커서(작성 시간, 게시글 ID) 기반으로 조회한 게시글 목록을 반환하는 DTO 클래스입니다.
+ * 다음 페이지를 조회할 때는 nextCursorDate, nextCursorId 값을 그대로 요청에 담아 보내면 됩니다.
+ */
+@Data
+@AllArgsConstructor
+public class PostCursorPageForm {
+
+    /**
+     * 게시글 요약 목록
+     */
+    private List<PostSummaryForm> posts;
+
+    /**
+     * 다음 페이지 커서 (마지막 게시글 작성 시간)
+     */
+    private LocalDateTime nextCursorDate;
+
+    /**
+     * 다음 페이지 커서 (마지막 게시글 ID)
+     */
+    private Long nextCursorId;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+}
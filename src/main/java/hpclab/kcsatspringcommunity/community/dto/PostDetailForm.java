@@ -0,0 +1,29 @@
+package hpclab.kcsatspringcommunity.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 게시글 상세 화면에 필요한 정보를 한 번에 반환하는 DTO 클래스입니다.
+ * 게시글(카운터 포함), 댓글 첫 페이지와 인기 댓글, 회원의 게시글 투표 정보를 담습니다.
+ * 다음 댓글 페이지는 comments.nextCursorId로 댓글 커서 API에서 조회합니다.
+ */
+@Data
+@AllArgsConstructor
+public class PostDetailForm {
+
+    /**
+     * 게시글 상세 정보 (조회수, 추천수, 비추천수 포함)
+     */
+    private PostResponseForm post;
+
+    /**
+     * 댓글 첫 페이지, 인기 댓글 목록과 각 댓글의 추천/비추천수, 다음 페이지 커서
+     */
+    private CommentCursorPageForm comments;
+
+    /**
+     * 회원의 게시글 투표 (추천 1, 비추천 -1, 투표하지 않음 0)
+     */
+    private int myVote;
+}
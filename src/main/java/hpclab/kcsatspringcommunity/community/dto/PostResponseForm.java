@@ -63,6 +63,16 @@ public class PostResponseForm {
      */
     private Long postViewCount;
 
+    /**
+     * 게시글 추천수
+     */
+    private Long upVoteCount;
+
+    /**
+     * 게시글 비추천수
+     */
+    private Long downVoteCount;
+
     @Builder
     public PostResponseForm(Post post, Long postViewCount) {
         this.pId = post.getId();
@@ -84,6 +94,12 @@ public class PostResponseForm {
         }
     }
 
+    public PostResponseForm(Post post, PostCountForm postCount) {
+        this(post, postCount.getViewCount());
+        this.upVoteCount = postCount.getUpVoteCount();
+        this.downVoteCount = postCount.getDownVoteCount();
+    }
+
     public PostResponseForm(Post post) {
         this.pId = post.getId();
         this.title = post.getPostTitle();
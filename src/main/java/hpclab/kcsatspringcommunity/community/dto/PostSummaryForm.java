@@ -0,0 +1,98 @@
+package hpclab.kcsatspringcommunity.community.dto;
+
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 목록에 표시할 게시글 요약 정보 DTO 클래스입니다.
+ * 게시글 엔티티 대신 필요한 컬럼만 생성자 프로젝션으로 조회하며, 본문은 앞부분만, 첨부 문제는 유형만 담습니다.
+ * 게시글 상세 정보는 PostResponseForm 참조.
+ */
+@Data
+public class PostSummaryForm {
+
+    /**
+     * 게시글 ID
+     */
+    private Long pId;
+
+    /**
+     * 게시글 제목
+     */
+    private String title;
+
+    /**
+     * 게시글 본문 앞부분 (최대 100자)
+     */
+    private String snippet;
+
+    /**
+     * 게시글 작성 시간
+     */
+    private LocalDateTime postDate;
+
+    /**
+     * 게시글 작성자 별명
+     */
+    private String username;
+
+    /**
+     * 게시글 첨부 문제 유형
+     */
+    private String questionType;
+
+    /**
+     * 게시글 조회수
+     */
+    private Long postViewCount;
+
+    /**
+     * 게시글 추천수
+     */
+    private Long upVoteCount;
+
+    /**
+     * 게시글 비추천수
+     */
+    private Long downVoteCount;
+
+    /**
+     * 게시글 댓글 수
+     */
+    private Long commentCount;
+
+    /**
+     * 본문 앞부분 최대 길이
+     */
+    public static final int SNIPPET_LENGTH = 100;
+
+    /**
+     * 생성자 프로젝션 조회용 생성자입니다. 카운터는 Redis에서 따로 채웁니다.
+     * 댓글 수는 DB에 반영된 값으로 먼저 채우고, Redis 카운터가 있다면 그 값으로 덮어씁니다.
+     */
+    public PostSummaryForm(Long pId, String title, String snippet, LocalDateTime postDate, String username, QuestionType questionType, Long commentCount) {
+        this.pId = pId;
+        this.title = title;
+        this.snippet = snippet;
+        this.postDate = postDate;
+        this.username = username;
+        this.questionType = questionType == null ? "" : questionType.getKrName();
+        this.commentCount = commentCount;
+    }
+
+    /**
+     * Redis에서 조회한 게시글 카운터를 채워 넣는 메서드입니다.
+     *
+     * @param postCount 게시글 카운터 (조회수, 추천수, 비추천수, 댓글 수)
+     */
+    public void setCounts(PostCountForm postCount) {
+        this.postViewCount = postCount.getViewCount();
+        this.upVoteCount = postCount.getUpVoteCount();
+        this.downVoteCount = postCount.getDownVoteCount();
+        if (postCount.getCommentCount() != null) {
+            this.commentCount = postCount.getCommentCount();
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package hpclab.kcsatspringcommunity.community.repository;
 
 import hpclab.kcsatspringcommunity.community.domain.Comment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,12 +19,46 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
      * 게시글 정보로 댓글을 찾는 메서드입니다.
+     * 댓글을 조회할 때, 작성자 정보도 같이 조회하도록 합니다. (N+1 문제 방지)
      *
      * @param pId 게시글 객체입니다.
      * @return pId 게시글 안에 있는 모든 댓글 리스트를 반환합니다.
      */
+    @EntityGraph(attributePaths = "member")
     List<Comment> findByPostId(Long pId);
 
+    /**
+     * 게시글에 달린 댓글 수를 세는 메서드입니다.
+     * Redis 게시글 댓글 수 카운터를 초기화하는 용도로 사용합니다.
+     *
+     * @param pId 게시글 ID
+     * @return 댓글 수를 반환합니다.
+     */
+    long countByPostId(Long pId);
+
+    /**
+     * 게시글 댓글을 커서(댓글 ID) 이후부터 ID 오름차순으로 limit개 조회하는 메서드입니다.
+     * (post_id, id) 인덱스를 그대로 타므로 OFFSET 없이 일정한 속도로 다음 페이지를 조회합니다.
+     * 댓글을 조회할 때, 작성자 정보도 같이 조회하도록 합니다. (N+1 문제 방지)
+     *
+     * @param pId 게시글 ID
+     * @param cursorId 이전 페이지 마지막 댓글 ID (첫 페이지라면 0)
+     * @param limit 조회할 댓글 수
+     * @return 댓글 목록을 반환합니다.
+     */
+    @EntityGraph(attributePaths = "member")
+    List<Comment> findByPostIdAndIdGreaterThanOrderByIdAsc(Long pId, Long cursorId, Limit limit);
+
+    /**
+     * 댓글 ID 목록에 해당하는 댓글을 작성자 정보와 함께 조회하는 메서드입니다. (N+1 문제 방지)
+     * 인기 댓글처럼 Redis에서 댓글 ID 목록을 먼저 가져온 경우에 사용합니다.
+     *
+     * @param cIds 댓글 ID 목록
+     * @return 댓글 목록 (순서 보장 X)
+     */
+    @EntityGraph(attributePaths = "member")
+    List<Comment> findByIdIn(List<Long> cIds);
+
     /**
      * 댓글 ID와 일치하는 댓글을 조회하는 메서드입니다.
      * 댓글을 조회할 때, 회원 정보도 같이 조회하도록 합니다. (N+1 문제 방지)
@@ -32,4 +69,25 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.member WHERE c.id = :cId")
     Optional<Comment> findCommentWithMember(Long cId);
-}
\ No newline at end of file
+
+    /**
+     * 댓글 ID가 id보다 큰 댓글을 ID 순서로 limit개까지 작성자 정보와 함께 조회합니다. (N+1 문제 방지)
+     * 검색 색인을 새로 만드는 용도로, 전체 댓글을 한 번에 올리지 않고 나누어 읽을 때 사용합니다.
+     *
+     * @param id 이전 배치의 마지막 댓글 ID (처음이라면 0)
+     * @param limit 한 번에 조회할 댓글 수
+     * @return 댓글 목록 (ID 오름차순)
+     */
+    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.member WHERE c.id > :id ORDER BY c.id")
+    List<Comment> findAllWithMemberAfter(@Param("id") Long id, Limit limit);
+
+    /**
+     * 댓글이 달린 게시글 ID만 조회하는 메서드입니다.
+     * 댓글 추천/비추천 시 게시글 인기 댓글 순위를 갱신하는 용도로 사용합니다.
+     *
+     * @param cId 댓글 ID
+     * @return 댓글이 달린 게시글 ID
+     */
+    @Query("SELECT c.postId FROM Comment c WHERE c.id = :cId")
+    Optional<Long> findPostIdById(@Param("cId") Long cId);
+}
@@ -1,11 +1,15 @@
 package hpclab.kcsatspringcommunity.community.repository;
 
 import hpclab.kcsatspringcommunity.community.domain.Post;
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -26,4 +30,91 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
             "LEFT JOIN FETCH p.question q " +
             "WHERE p.id = :postId")
     Optional<Post> findByIdWithComments(@Param("postId") Long postId);
-}
\ No newline at end of file
+
+    /**
+     * 게시글들의 인기 게시글 여부를 한 번의 UPDATE 쿼리로 변경합니다.
+     * 엔티티를 조회하지 않고 바로 반영하므로, 인기 게시글 선정/해제 시 사용합니다.
+     *
+     * @param postIds 게시글 ID 목록
+     * @param hot 인기 게시글 여부
+     * @return 변경된 게시글 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.isHotPost = :hot WHERE p.id IN :postIds")
+    int updateHotPost(@Param("postIds") List<Long> postIds, @Param("hot") boolean hot);
+
+    /**
+     * 게시글의 댓글 수 컬럼을 엔티티 조회 없이 갱신합니다.
+     * Redis 댓글 수 카운터를 주기적으로 DB에 반영하는 용도로 사용합니다.
+     * 댓글 수 컬럼은 엔티티에서 쓰지 않는 컬럼(updatable = false)이므로 네이티브 쿼리로 갱신합니다.
+     *
+     * @param postId 게시글 ID
+     * @param commentCount 댓글 수
+     * @return 변경된 게시글 수
+     */
+    @Modifying
+    @Query(value = "UPDATE post SET comment_count = :commentCount WHERE id = :postId", nativeQuery = true)
+    int updateCommentCount(@Param("postId") Long postId, @Param("commentCount") long commentCount);
+
+    /**
+     * 게시글 ID가 id보다 큰 게시글을 ID 순서로 limit개까지 [게시글 ID, 댓글 수 컬럼, 실제 댓글 수]로 조회합니다.
+     * 실제 댓글 수는 comment(post_id, id) 인덱스로 게시글마다 셉니다.
+     * 댓글 수 컬럼과 Redis 댓글 수를 실제 값으로 보정하는 용도로 사용합니다.
+     *
+     * @param id 이전 배치의 마지막 게시글 ID (처음이라면 0)
+     * @param limit 한 번에 조회할 게시글 수
+     * @return [게시글 ID, 댓글 수 컬럼, 실제 댓글 수] 목록 (ID 오름차순)
+     */
+    @Query(value = "SELECT p.id, p.comment_count, (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id) " +
+            "FROM post p WHERE p.id > :id ORDER BY p.id LIMIT :limit", nativeQuery = true)
+    List<Object[]> findCommentCountsAfter(@Param("id") Long id, @Param("limit") int limit);
+
+    /**
+     * 인기 게시글들의 ID, 첨부 문제 유형, 작성 시간만 조회합니다.
+     * Redis 인기 게시판이 비어있을 때 다시 채우는 용도로 사용합니다.
+     *
+     * @return [게시글 ID, 문제 유형, 작성 시간] 목록
+     */
+    @Query("SELECT p.id, p.questionType, p.createdDate FROM Post p WHERE p.isHotPost = true")
+    List<Object[]> findHotPostSummaries();
+
+    /**
+     * 게시글에 첨부된 문제 유형만 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @return 게시글 첨부 문제 유형 (없다면 null)
+     */
+    @Query("SELECT p.questionType FROM Post p WHERE p.id = :postId")
+    Optional<QuestionType> findQuestionTypeById(@Param("postId") Long postId);
+
+    /**
+     * 게시글 ID가 id보다 큰 게시글을 ID 순서로 limit개까지 작성자와 함께 조회합니다. (N+1 문제 방지)
+     * 검색 색인을 새로 만드는 용도로, 전체 게시글을 한 번에 올리지 않고 나누어 읽을 때 사용합니다.
+     *
+     * @param id 이전 배치의 마지막 게시글 ID (처음이라면 0)
+     * @param limit 한 번에 조회할 게시글 수
+     * @return 게시글 목록 (ID 오름차순)
+     */
+    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.member m WHERE p.id > :id ORDER BY p.id")
+    List<Post> findAllWithMemberAfter(@Param("id") Long id, Limit limit);
+
+    /**
+     * 게시글 ID가 id보다 큰 게시글 ID를 ID 순서로 limit개까지 조회합니다.
+     * 전체 게시글의 Redis 키를 나누어 처리하는 용도로 사용합니다.
+     *
+     * @param id 이전 배치의 마지막 게시글 ID (처음이라면 0)
+     * @param limit 한 번에 조회할 게시글 수
+     * @return 게시글 ID 목록 (오름차순)
+     */
+    @Query("SELECT p.id FROM Post p WHERE p.id > :id ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("id") Long id, Limit limit);
+
+    /**
+     * 문제 유형별 게시글 수를 조회합니다. (문제가 첨부되지 않은 게시글은 유형 null)
+     * Redis 게시글 수 카운터를 초기화/보정하는 용도로 사용합니다.
+     *
+     * @return [문제 유형, 게시글 수] 목록
+     */
+    @Query("SELECT p.questionType, COUNT(p) FROM Post p GROUP BY p.questionType")
+    List<Object[]> countGroupByQuestionType();
+}
@@ -1,10 +1,12 @@
 package hpclab.kcsatspringcommunity.community.repository;
 
-import hpclab.kcsatspringcommunity.community.domain.Post;
+import hpclab.kcsatspringcommunity.community.dto.PostSummaryForm;
 import hpclab.kcsatspringcommunity.question.domain.QuestionType;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 게시글 조회 중 특수한 경우에 대해 불러오는 커스텀 인터페이스입니다.
  */
@@ -12,31 +14,60 @@ public interface PostRepositoryCustom {
 
     /**
      * 게시글에 담긴 문제 유형으로 DB에서 찾고, 제목으로 2차로 필터링하는 메서드입니다.
-     * 게시판에서 특정 유형만이 담긴 게시글을 보고싶을 때 사용합니다.
+     * 게시판에서 특정 유형만이 담긴 게시글을 보고싶을 때 사용합니다. 검색 조건이 모두 없다면 전체 게시글 목록을 조회합니다.
+     * 전체 개수 COUNT 쿼리는 수행하지 않습니다. (PostTotalService 참조)
+     *
+     * @param pageable 페이지 정보를 담은 객체
+     * @param title 게시글 제목 (optional)
+     * @param type 게시글에 담긴 문제 유형 (optional)
+     * @return 해당 페이지의 게시글 요약 목록이 반환됩니다.
+     */
+    List<PostSummaryForm> findPostsByQuestionTypeAndTitle(Pageable pageable, String title, QuestionType type);
+
+    /**
+     * 인기 게시글 중, 게시글에 담긴 문제 유형으로 DB에서 찾고, 제목으로 2차로 필터링하는 메서드입니다.
+     * 인기 게시판에서 특정 유형만이 담긴 게시글을 보고싶을 때 사용합니다.
+     * 전체 개수 COUNT 쿼리는 수행하지 않습니다. (PostTotalService 참조)
      *
      * @param pageable 페이지 정보를 담은 객체
      * @param title 게시글 제목
      * @param type 게시글에 담긴 문제 유형
-     * @return Page 단위로 게시글 목록이 반환됩니다.
+     * @return 해당 페이지의 게시글 요약 목록이 반환됩니다.
      */
-    Page<Post> findPostsByQuestionTypeAndTitle(Pageable pageable, String title, QuestionType type);
+    List<PostSummaryForm> findHotPostsByQuestionTypeAndTitle(Pageable pageable, String title, QuestionType type);
 
     /**
-     * 인기 게시글만 DB에서 조회하여 반환하는 메서드입니다.
+     * 제목 검색어, 문제 유형 조건에 맞는 게시글 수를 세는 메서드입니다.
+     * 검색 결과 전체 개수는 Redis에 잠시 캐싱하므로, 캐시가 없을 때만 호출됩니다.
      *
-     * @param pageable 페이지 정보를 담은 객체
-     * @return Page 단위로 게시글 목록이 반환됩니다.
+     * @param title 게시글 제목 검색어 (optional)
+     * @param type 게시글에 담긴 문제 유형 (optional)
+     * @param hotOnly 인기 게시글만 셀지 여부
+     * @return 조건에 맞는 게시글 수를 반환합니다.
      */
-    Page<Post> findHotPosts(Pageable pageable);
+    long countPostsByQuestionTypeAndTitle(String title, QuestionType type, boolean hotOnly);
 
     /**
-     * 인기 게시글 중, 게시글에 담긴 문제 유형으로 DB에서 찾고, 제목으로 2차로 필터링하는 메서드입니다.
-     * 인기 게시판에서 특정 유형만이 담긴 게시글을 보고싶을 때 사용합니다.
+     * 커서(작성 시간, 게시글 ID) 이후의 게시글을 최신순으로 조회하는 메서드입니다.
+     * OFFSET 없이 (created_date, id) 인덱스를 그대로 타기 때문에, 깊은 페이지에서도 조회 속도가 일정합니다.
+     * 전체 개수 COUNT 쿼리도 수행하지 않습니다.
      *
-     * @param pageable 페이지 정보를 담은 객체
-     * @param title 게시글 제목
-     * @param type 게시글에 담긴 문제 유형
-     * @return Page 단위로 게시글 목록이 반환됩니다.
+     * @param cursorDate 이전 페이지 마지막 게시글 작성 시간 (첫 페이지라면 null)
+     * @param cursorId 이전 페이지 마지막 게시글 ID (첫 페이지라면 null)
+     * @param size 조회할 게시글 수
+     * @param title 게시글 제목 검색어 (optional)
+     * @param type 게시글에 담긴 문제 유형 (optional)
+     * @param hotOnly 인기 게시글만 조회할지 여부
+     * @return 다음 페이지 존재 여부 판단을 위해 최대 size + 1개의 게시글 요약 목록이 반환됩니다.
+     */
+    List<PostSummaryForm> findPostsByCursor(LocalDateTime cursorDate, Long cursorId, int size, String title, QuestionType type, boolean hotOnly);
+
+    /**
+     * 게시글 ID 목록에 해당하는 게시글 요약 정보를 한 번의 쿼리로 조회하는 메서드입니다.
+     * 인기 게시판처럼 Redis에서 게시글 ID 목록을 먼저 가져온 경우에 사용합니다.
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 요약 목록 (순서 보장 X)
      */
-    Page<Post> findHotPostsByQuestionTypeAndTitle(Pageable pageable, String title, QuestionType type);
+    List<PostSummaryForm> findPostSummariesByIdIn(List<Long> postIds);
 }
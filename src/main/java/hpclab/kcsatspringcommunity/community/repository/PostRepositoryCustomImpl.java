@@ -1,20 +1,33 @@
 package hpclab.kcsatspringcommunity.community.repository;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
-import hpclab.kcsatspringcommunity.community.domain.Post;
+import hpclab.kcsatspringcommunity.community.domain.QMember;
 import hpclab.kcsatspringcommunity.community.domain.QPost;
+import hpclab.kcsatspringcommunity.community.dto.PostSummaryForm;
 import hpclab.kcsatspringcommunity.question.domain.QuestionType;
 import jakarta.persistence.EntityManager;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * 게시글 검색 관련 특수한 조건으로 DB에 정보를 요구하는 클래스입니다.
  * QueryDSL을 사용하여 여러 조건이 달린 쿼리를 수행합니다.
+ *
+ * <p>제목 검색은 PostgreSQL pg_trgm GIN 인덱스(idx_post_title_trgm, resources/db/index.sql 참조)를 사용할 수 있도록
+ * title 컬럼에 직접 ILIKE 조건을 걸고, 검색 결과는 제목 유사도(similarity) 순으로 정렬합니다.</p>
+ *
+ * <p>게시판 목록 조회는 게시글 엔티티 대신 목록에 필요한 컬럼만 PostSummaryForm 생성자 프로젝션으로 조회하여,
+ * 본문 전체와 첨부 문제(보기 포함)를 DB에서 가져오지 않습니다.</p>
  */
 public class PostRepositoryCustomImpl implements PostRepositoryCustom {
 
@@ -25,83 +38,148 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
     }
 
     @Override
-    public Page<Post> findPostsByQuestionTypeAndTitle(Pageable pageable, String title, QuestionType type) {
+    public List<PostSummaryForm> findPostsByQuestionTypeAndTitle(Pageable pageable, String title, QuestionType type) {
+        return findPostsByCondition(pageable, title, type, false);
+    }
+
+    @Override
+    public List<PostSummaryForm> findHotPostsByQuestionTypeAndTitle(Pageable pageable, String title, QuestionType type) {
+        return findPostsByCondition(pageable, title, type, true);
+    }
+
+    @Override
+    public long countPostsByQuestionTypeAndTitle(String title, QuestionType type, boolean hotOnly) {
         QPost post = new QPost("post");
 
-        List<Post> result;
+        Long count = queryFactory
+                .select(post.count())
+                .from(post)
+                .where(searchCondition(post, title, type, hotOnly))
+                .fetchOne();
 
-        if (title == null || title.isEmpty()) {
-            result = queryFactory
-                    .selectFrom(post)
-                    .where(post.questionType.eq(type))
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
-        }
-        else if (type == null) {
-            result = queryFactory
-                    .selectFrom(post)
-                    .where(post.postTitle.likeIgnoreCase("%" + title + "%"))
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
-        }
-        else {
-            result = queryFactory
-                    .selectFrom(post)
-                    .where(post.postTitle.likeIgnoreCase("%" + title + "%").and(post.questionType.eq(type)))
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
+        return count == null ? 0L : count;
+    }
+
+    @Override
+    public List<PostSummaryForm> findPostsByCursor(LocalDateTime cursorDate, Long cursorId, int size, String title, QuestionType type, boolean hotOnly) {
+        QPost post = new QPost("post");
+        QMember member = new QMember("member");
+
+        BooleanBuilder condition = searchCondition(post, title, type, hotOnly);
+
+        if (cursorDate != null && cursorId != null) {
+            condition.and(cursorBefore(post, cursorDate, cursorId));
         }
 
-        return new PageImpl<>(result, pageable, result.size());
+        return queryFactory
+                .select(summary(post, member))
+                .from(post)
+                .join(post.member, member)
+                .where(condition)
+                .orderBy(post.createdDate.desc(), post.id.desc())
+                .limit(size + 1L)
+                .fetch();
     }
 
     @Override
-    public Page<Post> findHotPosts(Pageable pageable) {
+    public List<PostSummaryForm> findPostSummariesByIdIn(List<Long> postIds) {
+        QPost post = new QPost("post");
+        QMember member = new QMember("member");
+
+        return queryFactory
+                .select(summary(post, member))
+                .from(post)
+                .join(post.member, member)
+                .where(post.id.in(postIds))
+                .fetch();
+    }
+
+    /**
+     * 검색어가 있다면 제목 유사도 순, 없다면 최신 게시글 순으로 한 페이지를 조회합니다.
+     */
+    private List<PostSummaryForm> findPostsByCondition(Pageable pageable, String title, QuestionType type, boolean hotOnly) {
         QPost post = new QPost("post");
+        QMember member = new QMember("member");
+
+        JPAQuery<PostSummaryForm> query = queryFactory
+                .select(summary(post, member))
+                .from(post)
+                .join(post.member, member)
+                .where(searchCondition(post, title, type, hotOnly));
+
+        if (title != null && !title.isEmpty()) {
+            query.orderBy(titleSimilarity(post, title).desc(), post.id.desc());
+        }
+        else {
+            query.orderBy(post.id.desc());
+        }
 
-        List<Post> result = queryFactory.selectFrom(post)
-                .where(post.isHotPost.isTrue())
+        return query
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
-
-        return new PageImpl<>(result, pageable, result.size());
     }
 
-    @Override
-    public Page<Post> findHotPostsByQuestionTypeAndTitle(Pageable pageable, String title, QuestionType type) {
-        QPost post = new QPost("post");
+    /**
+     * 게시글 요약 정보 생성자 프로젝션입니다. 본문은 앞부분만 잘라서(substring) 가져옵니다.
+     */
+    private ConstructorExpression<PostSummaryForm> summary(QPost post, QMember member) {
+        return Projections.constructor(PostSummaryForm.class,
+                post.id,
+                post.postTitle,
+                post.postContent.substring(0, PostSummaryForm.SNIPPET_LENGTH),
+                post.createdDate,
+                member.username,
+                post.questionType,
+                post.commentCount);
+    }
 
-        List<Post> result;
+    /**
+     * 제목 검색어, 문제 유형, 인기 게시글 여부 조건입니다. 값이 없는 조건은 무시합니다.
+     */
+    private BooleanBuilder searchCondition(QPost post, String title, QuestionType type, boolean hotOnly) {
+        BooleanBuilder condition = new BooleanBuilder();
 
-        if (title == null || title.isEmpty()) {
-            result = queryFactory
-                    .selectFrom(post)
-                    .where(post.questionType.eq(type).and(post.isHotPost.isTrue()))
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
+        if (title != null && !title.isEmpty()) {
+            condition.and(titleContains(post, title));
         }
-        else if (type == null) {
-            result = queryFactory
-                    .selectFrom(post)
-                    .where(post.postTitle.likeIgnoreCase("%" + title + "%").and(post.isHotPost.isTrue()))
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
+        if (type != null) {
+            condition.and(post.questionType.eq(type));
         }
-        else {
-            result = queryFactory
-                    .selectFrom(post)
-                    .where(post.postTitle.likeIgnoreCase("%" + title + "%").and(post.questionType.eq(type)).and(post.isHotPost.isTrue()))
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
+        if (hotOnly) {
+            condition.and(post.isHotPost.isTrue());
         }
+        return condition;
+    }
+
+    /**
+     * 커서(작성 시간, 게시글 ID)보다 이전 게시글 조건입니다.
+     * created_date < ? OR (created_date = ? AND id < ?) 형태는 (created_date, id) 인덱스 범위 검색이 되지 않으므로,
+     * PostgreSQL 행 값 비교 (created_date, id) < (?, ?) 형태로 생성합니다.
+     */
+    private BooleanExpression cursorBefore(QPost post, LocalDateTime cursorDate, Long cursorId) {
+        return Expressions.booleanTemplate("({0}, {1}) < ({2}, {3})", post.createdDate, post.id, cursorDate, cursorId);
+    }
+
+    /**
+     * 제목에 검색어가 포함된 게시글 조건입니다.
+     * lower(title) LIKE 형태가 아닌 title ILIKE 형태로 생성하여 pg_trgm GIN 인덱스를 탈 수 있도록 합니다.
+     * 검색어에 포함된 LIKE 특수문자(%, _)는 일반 문자로 취급합니다.
+     */
+    private BooleanExpression titleContains(QPost post, String title) {
+        return Expressions.booleanTemplate("{0} ilike {1} escape '!'", post.postTitle, "%" + escapeLike(title) + "%");
+    }
+
+    /**
+     * 게시글 제목과 검색어의 trigram 유사도(0~1)입니다. 검색 결과 정렬에 사용합니다.
+     */
+    private NumberExpression<Double> titleSimilarity(QPost post, String title) {
+        return Expressions.numberTemplate(Double.class, "function('similarity', {0}, {1})", post.postTitle, title);
+    }
 
-        return new PageImpl<>(result, pageable, result.size());
+    private String escapeLike(String keyword) {
+        return keyword.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
     }
 }
@@ -1,11 +1,14 @@
 package hpclab.kcsatspringcommunity.community.service;
 
 import hpclab.kcsatspringcommunity.community.domain.Comment;
+import hpclab.kcsatspringcommunity.community.dto.CommentCountForm;
+import hpclab.kcsatspringcommunity.community.dto.CommentCursorPageForm;
 import hpclab.kcsatspringcommunity.community.dto.CommentDetailForm;
 import hpclab.kcsatspringcommunity.community.dto.CommentResponseForm;
 import hpclab.kcsatspringcommunity.community.dto.CommentWriteForm;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 게시글에서 댓글에 대한 상호작용을 처리하는 로직을 정의한 인터페이스입니다.
@@ -34,10 +37,45 @@ public interface CommentService {
     /**
      * 게시글에 작성된 인기 게시글을 불러오는 메서드입니다.
      *
-     * @param comments 게시글 ID
+     * 추천수 - 비추천수가 2 이상인 댓글 중 상위 3개를 게시글 인기 댓글 Sorted Set에서 한 번의 범위 조회로 가져옵니다.
+     * 순위에 없던 댓글은 추천/비추천을 받을 때 카운터 기준 점수로 채워지므로, 조회 시에는 순위를 고치지 않습니다.
+     *
+     * @param pId 게시글 ID
+     * @param comments 게시글 댓글 목록
      * @return 게시글에 달린 인기 댓글들을 목록으로 담아 반환합니다.
      */
-    List<CommentResponseForm> getHotComments(List<Comment> comments);
+    List<CommentResponseForm> getHotComments(Long pId, List<Comment> comments);
+
+    /**
+     * 게시글 댓글을 커서(댓글 ID) 기반으로 작성순 조회하는 메서드입니다.
+     * OFFSET, 전체 COUNT 없이 (post_id, id) 인덱스 범위 조회만 수행하므로 댓글이 많은 게시글도 페이지마다 일정한 비용으로 조회합니다.
+     * 첫 페이지(cursorId가 null)에는 인기 댓글을 함께 담아 반환합니다.
+     *
+     * @param pId 게시글 ID
+     * @param cursorId 이전 페이지 마지막 댓글 ID (첫 페이지라면 null)
+     * @param size 조회할 댓글 수 (1 ~ 100)
+     * @return 해당 페이지의 댓글 목록과 추천/비추천수, 다음 페이지 커서를 반환합니다.
+     */
+    CommentCursorPageForm getCommentsByCursor(Long pId, Long cursorId, int size);
+
+    /**
+     * 게시글 댓글을 커서(댓글 ID) 이후부터 size개 조회하는 메서드입니다.
+     * 추천/비추천수, 인기 댓글 없이 댓글 본문만 조회하며, 전체 댓글 스트리밍(내보내기, 관리자 조회)에 사용합니다.
+     *
+     * @param pId 게시글 ID
+     * @param cursorId 이전 배치 마지막 댓글 ID (처음이라면 null)
+     * @param size 조회할 댓글 수
+     * @return 댓글 목록을 작성순으로 반환합니다.
+     */
+    List<CommentResponseForm> getCommentBatch(Long pId, Long cursorId, int size);
+
+    /**
+     * 여러 댓글의 추천/비추천수를 Redis 파이프라인 한 번으로 조회하는 메서드입니다.
+     *
+     * @param cIds 댓글 ID 목록
+     * @return 댓글 ID별 추천/비추천수를 반환합니다. (값이 없다면 0)
+     */
+    Map<Long, CommentCountForm> getCommentCounts(List<Long> cIds);
 
     /**
      * 댓글을 삭제하는 메서드입니다.
@@ -81,20 +119,4 @@ public interface CommentService {
      * @return 비추천 카운트를 반환합니다.
      */
     String decreaseCommentCount(Long cId, String userEmail);
-
-    /**
-     * cId에 해당하는 댓글의 추천수를 가져오는 메서드입니다.
-     *
-     * @param cId 댓글 ID
-     * @return 추천 카운트를 반환합니다.
-     */
-    String getIncreaseCommentCount(Long cId);
-
-    /**
-     * cId에 해당하는 댓글의 비추천수를 가져오는 메서드입니다.
-     *
-     * @param cId 댓글 ID
-     * @return 비추천 카운트를 반환합니다.
-     */
-    String getDecreaseCommentCount(Long cId);
 }
\ No newline at end of file
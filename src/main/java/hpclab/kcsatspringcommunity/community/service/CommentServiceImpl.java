@@ -1,25 +1,35 @@
 package hpclab.kcsatspringcommunity.community.service;
 
 import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import hpclab.kcsatspringcommunity.redis.RedisScriptUtil;
 import hpclab.kcsatspringcommunity.community.domain.Comment;
 import hpclab.kcsatspringcommunity.community.domain.Member;
+import hpclab.kcsatspringcommunity.community.dto.CommentCountForm;
+import hpclab.kcsatspringcommunity.community.dto.CommentCursorPageForm;
 import hpclab.kcsatspringcommunity.community.dto.CommentDetailForm;
 import hpclab.kcsatspringcommunity.community.dto.CommentResponseForm;
 import hpclab.kcsatspringcommunity.community.dto.CommentWriteForm;
 import hpclab.kcsatspringcommunity.community.repository.CommentRepository;
 import hpclab.kcsatspringcommunity.exception.ApiException;
 import hpclab.kcsatspringcommunity.exception.ErrorCode;
+import hpclab.kcsatspringcommunity.live.service.PostLivePublisher;
+import hpclab.kcsatspringcommunity.search.service.SearchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-
-import static java.lang.Math.min;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 댓글 처리 로직을 담당하는 메서드입니다.
@@ -28,6 +38,7 @@ import static java.lang.Math.min;
  *     <li>댓글 작성</li>
  *     <li>댓글 삭제</li>
  *     <li>게시글 인기 댓글 목록 조회(일반 댓글은 게시글과 묶음 조회)</li>
+ *     <li>게시글 댓글 커서 기반 조회, 스트리밍용 배치 조회</li>
  *     <li>댓글 추천/비추천수 조회</li>
  *     <li>댓글 추천, 비추천</li>
  * </ul>
@@ -40,8 +51,30 @@ public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
 
+    private final SearchService searchService;
+
+    private final PostCommentCountService postCommentCountService;
+
+    private final PostLivePublisher postLivePublisher;
+
     private final RedisTemplate<String, String> redisTemplate;
 
+    /**
+     * 회원별 추천/비추천 중복 체크 유지 시간
+     */
+    private static final String USER_CHECK_TTL_SECONDS = String.valueOf(Duration.ofHours(24).toSeconds());
+
+    /**
+     * 인기 댓글 기준 점수(추천수 - 비추천수), 게시글당 인기 댓글 수
+     */
+    private static final double HOT_COMMENT_MIN_SCORE = 2;
+    private static final long HOT_COMMENT_COUNT = 3;
+
+    /**
+     * 커서 기반 댓글 조회 시 한 페이지 최대 댓글 수
+     */
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+
     @Transactional
     @Override
     public Long writeComment(CommentWriteForm commentWriteForm, Long pId, String email) {
@@ -64,6 +97,17 @@ public class CommentServiceImpl implements CommentService {
                 .build();
 
         commentRepository.save(comment);
+        searchService.indexComment(comment);
+
+        // 커밋된 후에 인기 댓글 순위에 0점으로 등록하고(이후 추천/비추천 시 점수만 증감) 댓글 수를 증가
+        // (롤백된 댓글이 순위와 댓글 수, 댓글 수 변경 기록에 남지 않도록)
+        Long cId = comment.getId();
+        afterCommit(() -> {
+            // 커밋 직후 들어온 추천으로 이미 채워졌다면 그 점수를 유지 (ZADD NX)
+            redisTemplate.opsForZSet().addIfAbsent(RedisKeyUtil.postHotComment(pId), String.valueOf(cId), 0);
+            postCommentCountService.increaseCommentCount(pId);
+        });
+        postLivePublisher.publishComment(pId, new CommentResponseForm(comment));
 
         return comment.getId();
     }
@@ -73,7 +117,11 @@ public class CommentServiceImpl implements CommentService {
     public CommentDetailForm getAllComments(Long pId) {
 
         List<Comment> comments = commentRepository.findByPostId(pId);
-        List<CommentResponseForm> hotComments = getHotComments(comments);
+
+        // 모든 댓글 카운터를 한 번에 조회하여 인기 댓글 선정과 전체 목록에 함께 사용
+        Map<Long, CommentCountForm> commentCounts = getCommentCounts(comments.stream().map(Comment::getId).toList());
+
+        List<CommentResponseForm> hotComments = getHotComments(pId, comments);
         List<CommentResponseForm> normalComments = new ArrayList<>();
         comments.forEach(comment -> normalComments.add(new CommentResponseForm(comment)));
 
@@ -83,19 +131,15 @@ public class CommentServiceImpl implements CommentService {
         List<String> commentsDownVoteCounter = new ArrayList<>();
 
         hotComments.forEach(comment -> {
-            String commentUpVoteCount = getIncreaseCommentCount(comment.getCId());
-            hotCommentsUpVoteCounter.add(commentUpVoteCount);
-
-            String commentDownVoteCount = getDecreaseCommentCount(comment.getCId());
-            hotCommentsDownVoteCounter.add(commentDownVoteCount);
+            CommentCountForm commentCount = commentCounts.get(comment.getCId());
+            hotCommentsUpVoteCounter.add(String.valueOf(commentCount.getUpVoteCount()));
+            hotCommentsDownVoteCounter.add(String.valueOf(commentCount.getDownVoteCount()));
         });
 
         normalComments.forEach(comment -> {
-            String commentUpVoteCount = getIncreaseCommentCount(comment.getCId());
-            commentsUpVoteCounter.add(commentUpVoteCount);
-
-            String commentDownVoteCount = getDecreaseCommentCount(comment.getCId());
-            commentsDownVoteCounter.add(commentDownVoteCount);
+            CommentCountForm commentCount = commentCounts.get(comment.getCId());
+            commentsUpVoteCounter.add(String.valueOf(commentCount.getUpVoteCount()));
+            commentsDownVoteCounter.add(String.valueOf(commentCount.getDownVoteCount()));
         });
 
         return new CommentDetailForm(
@@ -110,56 +154,180 @@ public class CommentServiceImpl implements CommentService {
 
     @Transactional(readOnly = true)
     @Override
-    public List<CommentResponseForm> getHotComments(List<Comment> comments) {
-        List<CommentResponseForm> hotComments = new ArrayList<>();
+    public List<CommentResponseForm> getHotComments(Long pId, List<Comment> comments) {
+        return toHotComments(findHotCommentIds(pId), comments);
+    }
 
-        List<CommentsSort> commentsSort = new ArrayList<>();
-        comments.forEach(comment -> {
-            String upVote = redisTemplate.opsForValue().get(RedisKeyUtil.commentUpVote(comment.getId()));
-            String downVote = redisTemplate.opsForValue().get(RedisKeyUtil.commentDownVote(comment.getId()));
+    @Transactional(readOnly = true)
+    @Override
+    public CommentCursorPageForm getCommentsByCursor(Long pId, Long cursorId, int size) {
+        if (size < 1 || size > MAX_COMMENT_PAGE_SIZE) {
+            throw new ApiException(ErrorCode.INVALID_INPUT);
+        }
 
-            try {
-                long calc = Long.parseLong(upVote) - Long.parseLong(downVote);
+        // 다음 페이지 존재 여부 판단을 위해 size + 1개 조회
+        List<Comment> comments = commentRepository.findByPostIdAndIdGreaterThanOrderByIdAsc(
+                pId, cursorId == null ? 0L : cursorId, Limit.of(size + 1));
 
-                if (calc >= 2) {
-                    commentsSort.add(new CommentsSort(calc, comment));
-                }
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException();
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = comments.subList(0, size);
+        }
+
+        // 인기 댓글은 첫 페이지에서만 Sorted Set 상위 ID로 따로 조회 (이미 조회한 페이지에 있다면 재사용)
+        List<Comment> hotCommentEntities = new ArrayList<>();
+        if (cursorId == null) {
+            List<Long> hotCommentIds = findHotCommentIds(pId);
+            Map<Long, Comment> commentsById = new HashMap<>();
+            comments.forEach(comment -> commentsById.put(comment.getId(), comment));
+
+            List<Long> missingIds = hotCommentIds.stream().filter(cId -> !commentsById.containsKey(cId)).toList();
+            if (!missingIds.isEmpty()) {
+                commentRepository.findByIdIn(missingIds).forEach(comment -> commentsById.put(comment.getId(), comment));
             }
+
+            hotCommentIds.forEach(cId -> {
+                Comment comment = commentsById.get(cId);
+                if (comment != null) {
+                    hotCommentEntities.add(comment);
+                }
+            });
+        }
+
+        List<Long> cIds = new ArrayList<>();
+        hotCommentEntities.forEach(comment -> cIds.add(comment.getId()));
+        comments.forEach(comment -> cIds.add(comment.getId()));
+        Map<Long, CommentCountForm> commentCounts = getCommentCounts(cIds);
+
+        List<CommentResponseForm> hotComments = new ArrayList<>();
+        List<String> hotCommentsUpVoteCounter = new ArrayList<>();
+        List<String> hotCommentsDownVoteCounter = new ArrayList<>();
+        hotCommentEntities.forEach(comment -> {
+            CommentCountForm commentCount = commentCounts.get(comment.getId());
+            hotComments.add(new CommentResponseForm(comment));
+            hotCommentsUpVoteCounter.add(String.valueOf(commentCount.getUpVoteCount()));
+            hotCommentsDownVoteCounter.add(String.valueOf(commentCount.getDownVoteCount()));
         });
 
-        commentsSort.sort(Comparator.comparing(CommentsSort::getCounter).reversed());
+        List<CommentResponseForm> normalComments = new ArrayList<>();
+        List<String> commentsUpVoteCounter = new ArrayList<>();
+        List<String> commentsDownVoteCounter = new ArrayList<>();
+        comments.forEach(comment -> {
+            CommentCountForm commentCount = commentCounts.get(comment.getId());
+            normalComments.add(new CommentResponseForm(comment));
+            commentsUpVoteCounter.add(String.valueOf(commentCount.getUpVoteCount()));
+            commentsDownVoteCounter.add(String.valueOf(commentCount.getDownVoteCount()));
+        });
+
+        Long nextCursorId = comments.isEmpty() ? cursorId : comments.get(comments.size() - 1).getId();
+
+        return new CommentCursorPageForm(
+                hotComments,
+                hotCommentsUpVoteCounter,
+                hotCommentsDownVoteCounter,
+                normalComments,
+                commentsUpVoteCounter,
+                commentsDownVoteCounter,
+                nextCursorId,
+                hasNext
+        );
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<CommentResponseForm> getCommentBatch(Long pId, Long cursorId, int size) {
+        return commentRepository.findByPostIdAndIdGreaterThanOrderByIdAsc(pId, cursorId == null ? 0L : cursorId, Limit.of(size))
+                .stream()
+                .map(CommentResponseForm::new)
+                .toList();
+    }
 
-        for (int i = 0; i < min(commentsSort.size(), 3); i++) {
-            hotComments.add(
-                    CommentResponseForm.builder()
-                            .comment(commentsSort.get(i).comment)
-                            .build()
-            );
+    /**
+     * 게시글 인기 댓글 Sorted Set에서 기준 점수 이상인 상위 댓글 ID를 점수 내림차순으로 가져오는 메서드입니다.
+     *
+     * @param pId 게시글 ID
+     * @return 인기 댓글 ID 목록을 반환합니다.
+     */
+    private List<Long> findHotCommentIds(Long pId) {
+        Set<String> hotCommentIds = redisTemplate.opsForZSet()
+                .reverseRangeByScore(RedisKeyUtil.postHotComment(pId), HOT_COMMENT_MIN_SCORE, Double.POSITIVE_INFINITY, 0, HOT_COMMENT_COUNT);
+
+        if (hotCommentIds == null) {
+            return List.of();
         }
 
+        return hotCommentIds.stream().map(Long::parseLong).toList();
+    }
+
+    private List<CommentResponseForm> toHotComments(List<Long> hotCommentIds, List<Comment> comments) {
+        Map<Long, Comment> commentsById = new HashMap<>();
+        comments.forEach(comment -> commentsById.put(comment.getId(), comment));
+
+        List<CommentResponseForm> hotComments = new ArrayList<>();
+        hotCommentIds.forEach(cId -> {
+            Comment comment = commentsById.get(cId);
+            if (comment != null) {
+                hotComments.add(CommentResponseForm.builder().comment(comment).build());
+            }
+        });
+
         return hotComments;
     }
 
-    private static class CommentsSort {
-        Long counter;
-        Comment comment;
+    @Override
+    public Map<Long, CommentCountForm> getCommentCounts(List<Long> cIds) {
+        Map<Long, CommentCountForm> commentCounts = new HashMap<>();
+        if (cIds.isEmpty()) {
+            return commentCounts;
+        }
+
+        // 댓글마다 추천/비추천 GET 2번을 파이프라인 한 번으로 전송 (댓글 키는 해시 태그가 달라 MGET 대신 파이프라인 사용)
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            cIds.forEach(cId -> {
+                connection.stringCommands().get(RedisKeyUtil.commentUpVote(cId).getBytes(StandardCharsets.UTF_8));
+                connection.stringCommands().get(RedisKeyUtil.commentDownVote(cId).getBytes(StandardCharsets.UTF_8));
+            });
+            return null;
+        });
+
+        for (int i = 0; i < cIds.size(); i++) {
+            commentCounts.put(cIds.get(i), new CommentCountForm(
+                    parseCount(results.get(2 * i)),
+                    parseCount(results.get(2 * i + 1))
+            ));
+        }
+
+        return commentCounts;
+    }
 
-        public CommentsSort(Long counter, Comment comment) {
-            this.counter = counter;
-            this.comment = comment;
+    private long parseCount(Object value) {
+        if (value == null) {
+            return 0L;
         }
 
-        Long getCounter() {
-            return counter;
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            throw new ApiException(ErrorCode.VOTE_COUNT_PARSE_FAILED);
         }
     }
 
     @Transactional
     @Override
     public void deleteComment(Long cId) {
-        commentRepository.deleteById(cId);
+        Comment comment = commentRepository.findById(cId)
+                .orElseThrow(() -> new ApiException(ErrorCode.COMMENT_NOT_FOUND));
+        commentRepository.delete(comment);
+
+        // 삭제가 커밋된 후에 인기 댓글 순위에서 빼고 댓글 수를 감소
+        Long pId = comment.getPostId();
+        afterCommit(() -> {
+            redisTemplate.opsForZSet().remove(RedisKeyUtil.postHotComment(pId), String.valueOf(cId));
+            redisTemplate.opsForHash().delete(RedisKeyUtil.postHotCommentSeeded(pId), String.valueOf(cId));
+            postCommentCountService.decreaseCommentCount(pId);
+        });
+        postLivePublisher.publishCommentDelete(pId, cId);
+        searchService.removeComment(cId);
     }
 
     @Transactional(readOnly = true)
@@ -188,43 +356,88 @@ public class CommentServiceImpl implements CommentService {
     @Override
     public String increaseCommentCount(Long cId, String userEmail) {
 
-        String upVoteKey = RedisKeyUtil.commentUpVote(cId);
-        String userVoteKey = RedisKeyUtil.commentUserCheck(cId, userEmail);
-
-        Boolean success = redisTemplate.opsForValue()
-                .setIfAbsent(userVoteKey, "1", Duration.ofHours(24));
-
-        if (Boolean.TRUE.equals(success)) {
-            redisTemplate.opsForValue().increment(upVoteKey);
-        }
-
-        return redisTemplate.opsForValue().get(upVoteKey);
+        return String.valueOf(voteOncePerUser(cId, userEmail, RedisKeyUtil.commentUpVote(cId), 1));
     }
 
 
     @Override
     public String decreaseCommentCount(Long commentId, String userEmail) {
 
-        String downVoteKey = RedisKeyUtil.commentDownVote(commentId);
-        String userVoteKey = RedisKeyUtil.commentUserCheck(commentId, userEmail);
+        return String.valueOf(voteOncePerUser(commentId, userEmail, RedisKeyUtil.commentDownVote(commentId), -1));
+    }
+
+    /**
+     * 회원 중복 체크 후 댓글 카운터를 1 증가시키고, 실제로 증가했다면 게시글 인기 댓글 점수도 갱신하는 메서드입니다.
+     * 중복 체크, 증가, 증가 직후의 추천/비추천수 조회를 Lua 스크립트 한 번으로 처리하여 Redis 왕복과 경쟁 조건을 없앱니다.
+     * 인기 댓글 점수는 ZINCRBY로 증감하므로 O(log n)에 순위가 유지됩니다.
+     *
+     * @param cId 댓글 ID
+     * @param userEmail 회원 email 아이디
+     * @param counterKey 증가시킬 카운터 키
+     * @param scoreDelta 인기 댓글 점수 증감 값 (추천 1, 비추천 -1)
+     * @return 증가 후(중복이라면 현재) 카운터 값을 반환합니다.
+     */
+    private Long voteOncePerUser(Long cId, String userEmail, String counterKey, double scoreDelta) {
+        List<?> result = redisTemplate.execute(
+                RedisScriptUtil.COMMENT_VOTE,
+                List.of(RedisKeyUtil.commentUserCheck(cId, userEmail), counterKey,
+                        RedisKeyUtil.commentUpVote(cId), RedisKeyUtil.commentDownVote(cId)),
+                USER_CHECK_TTL_SECONDS
+        );
 
-        Boolean success = redisTemplate.opsForValue()
-                .setIfAbsent(userVoteKey, "1", Duration.ofHours(24));
+        if (result == null || result.size() != 4) {
+            throw new ApiException(ErrorCode.VOTE_COUNT_PARSE_FAILED);
+        }
 
-        if (Boolean.TRUE.equals(success)) {
-            redisTemplate.opsForValue().increment(downVoteKey);
+        if (((Number) result.get(0)).longValue() == 1) {
+            long score = ((Number) result.get(2)).longValue();
+            long sequence = ((Number) result.get(3)).longValue();
+
+            commentRepository.findPostIdById(cId).ifPresent(pId -> {
+                updateHotCommentScore(pId, cId, scoreDelta, sequence, score);
+                postLivePublisher.markCommentCountChanged(pId, cId);
+            });
         }
 
-        return redisTemplate.opsForValue().get(downVoteKey);
+        return ((Number) result.get(1)).longValue();
     }
 
-    @Override
-    public String getIncreaseCommentCount(Long commentId) {
-        return redisTemplate.opsForValue().get(RedisKeyUtil.commentUpVote(commentId));
+    /**
+     * 게시글 인기 댓글 순위에 댓글 점수를 반영하는 메서드입니다.
+     * 순위에 있는 댓글은 ZINCRBY로 증감하고, 순위에 없던 댓글(기능 도입 전 댓글, 만료된 순위)은
+     * 이번 투표 직후 카운터 값(추천수 - 비추천수)으로 채워 넣어 증감분만으로 점수가 만들어지지 않도록 합니다.
+     *
+     * <p>확인과 채우기는 게시글 키({pId})에서 스크립트 한 번으로 처리합니다. 댓글 카운터는 다른 해시 태그({cId})라 같은 스크립트에서 읽을 수 없으므로,
+     * 투표할 때 함께 읽은 점수와 투표 순번을 넘겨, 채운 점수에 이미 포함된 투표가 늦게 도착해도 다시 더하지 않도록 합니다.</p>
+     *
+     * @param pId 게시글 ID
+     * @param cId 댓글 ID
+     * @param scoreDelta 인기 댓글 점수 증감 값 (추천 1, 비추천 -1)
+     * @param sequence 이번 투표 순번 (투표 직후 추천수 + 비추천수)
+     * @param score 이번 투표 직후 점수 (추천수 - 비추천수)
+     */
+    private void updateHotCommentScore(Long pId, Long cId, double scoreDelta, long sequence, long score) {
+        redisTemplate.execute(
+                RedisScriptUtil.HOT_COMMENT_SCORE,
+                List.of(RedisKeyUtil.postHotComment(pId), RedisKeyUtil.postHotCommentSeeded(pId)),
+                String.valueOf(cId), String.valueOf(scoreDelta), String.valueOf(sequence), String.valueOf(score)
+        );
     }
 
-    @Override
-    public String getDecreaseCommentCount(Long commentId) {
-        return redisTemplate.opsForValue().get(RedisKeyUtil.commentDownVote(commentId));
+    /**
+     * 현재 트랜잭션이 커밋된 후에 실행합니다. (트랜잭션 밖이라면 바로 실행)
+     */
+    private void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        }
+        else {
+            runnable.run();
+        }
     }
 }
\ No newline at end of file
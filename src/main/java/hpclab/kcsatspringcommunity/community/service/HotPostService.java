@@ -0,0 +1,52 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 인기 게시글 선정/해제 로직을 정의한 인터페이스입니다.
+ * 추천이 들어올 때마다 인기도 점수를 갱신하고, 추천수가 기준을 처음 넘는 순간에만 DB에 인기 게시글로 기록합니다.
+ * 인기 게시글 ID는 전체/문제 유형별 Redis Sorted Set(인기 게시판)에 인기도 순으로 보관합니다.
+ */
+public interface HotPostService {
+
+    /**
+     * 게시글이 추천을 받았을 때 인기도 점수를 갱신하는 메서드입니다.
+     * 추천수가 인기 게시글 기준 미만이라면 아무것도 하지 않습니다.
+     * 추천수가 인기 게시글 기준을 처음 넘었다면, 해당 게시글을 인기 게시글로 지정합니다. (게시글마다 한 번만 DB 반영)
+     *
+     * @param pId 게시글 ID
+     * @param upVoteCount 현재 게시글 추천수
+     */
+    void updateHotness(Long pId, long upVoteCount);
+
+    /**
+     * 인기 게시판의 게시글 ID 목록을 인기도 순으로 조회하는 메서드입니다.
+     * DB를 거치지 않고 Redis Sorted Set 범위 조회(ZREVRANGE)로 가져옵니다.
+     *
+     * @param pageable 페이지 정보 객체 (정렬 조건은 무시하고 인기도 순으로 정렬)
+     * @param type 첨부 문제 유형 (null이라면 전체 인기 게시판)
+     * @return Page 단위로 인기 게시글 ID 목록을 반환합니다.
+     */
+    Page<Long> getHotPostIds(Pageable pageable, QuestionType type);
+
+    /**
+     * 삭제된 게시글을 인기도 점수, 인기 게시판에서 제거하는 메서드입니다.
+     *
+     * @param pId 게시글 ID
+     */
+    void removeHotPost(Long pId);
+
+    /**
+     * 일정 시간 이상 추천이 없어 인기도 점수가 떨어진 게시글을 인기 게시글에서 해제하는 메서드입니다.
+     * 주기적으로 실행됩니다.
+     */
+    void demoteColdPosts();
+
+    /**
+     * Redis 인기 게시판이 비어있다면, DB의 인기 게시글로 다시 채우는 메서드입니다.
+     * 서버 시작 시 실행됩니다. 다시 채운 게시글은 다음 추천이 들어올 때까지 인기 게시글 해제 대상에서 제외됩니다.
+     */
+    void rebuildHotBoard();
+}
@@ -0,0 +1,285 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.community.repository.PostRepository;
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import hpclab.kcsatspringcommunity.redis.RedisScriptUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import static java.lang.Math.log10;
+import static java.lang.Math.max;
+
+/**
+ * 인기 게시글 선정/해제 로직을 구현한 클래스입니다.
+ *
+ * <p>인기도 점수는 Reddit Ranking Algorithm과 같은 방식으로 (log10(추천수) + 마지막 추천 시각 / 45000) 으로 계산하여
+ * Redis Sorted Set에 보관합니다. 추천수가 10배가 되면 약 12.5시간(45000초)만큼 더 오래 인기 게시글로 유지됩니다.</p>
+ *
+ * <p>인기 게시글 플래그(게시글 카운터 Hash의 hot 필드)에는 게시글 첨부 문제 유형을 저장하여,
+ * 이후 추천이 들어올 때 DB 조회 없이 유형별 인기 게시판 점수도 함께 갱신합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotPostServiceImpl implements HotPostService {
+
+    private final PostRepository postRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 문제가 첨부되지 않은 인기 게시글의 플래그 값
+     */
+    private static final String NO_TYPE = "NONE";
+
+    /**
+     * 인기 게시글로 지정되는 추천수 기준
+     */
+    @Value("${community.post.hot.threshold:20}")
+    private long hotThreshold;
+
+    /**
+     * 기준 추천수만 가진 게시글이 추천 없이 인기 게시글로 유지되는 시간
+     */
+    @Value("${community.post.hot.cold-after-hours:72}")
+    private long coldAfterHours;
+
+    @Transactional
+    @Override
+    public void updateHotness(Long pId, long upVoteCount) {
+        // 기준을 넘지 않은 게시글은 인기도 점수에 넣지 않음 (인기 게시글 해제 대상이 인기 게시글로만 한정되도록)
+        if (upVoteCount < hotThreshold) {
+            return;
+        }
+
+        double score = hotness(upVoteCount, Instant.now().getEpochSecond());
+        String countKey = RedisKeyUtil.postCount(pId);
+
+        // 인기도 점수 갱신, 인기 게시글 플래그 설정(HSETNX), 플래그 조회를 파이프라인 한 번으로 처리
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                ops.opsForZSet().add(RedisKeyUtil.postHotScore(), String.valueOf(pId), score);
+                ops.opsForHash().putIfAbsent(countKey, RedisKeyUtil.POST_HOT, "");
+                ops.opsForHash().get(countKey, RedisKeyUtil.POST_HOT);
+                return null;
+            }
+        });
+
+        // 플래그가 새로 설정된 경우 = 기준을 처음 넘은 경우에만 DB 반영
+        if (Boolean.TRUE.equals(results.get(1))) {
+            log.info("post {} is getting hot", pId);
+
+            postRepository.updateHotPost(List.of(pId), true);
+            QuestionType type = postRepository.findQuestionTypeById(pId).orElse(null);
+
+            // 플래그 값(유형)과 인기 게시판은 커밋된 후에 채우고, 롤백되었다면 비어있는 플래그를 지워 다음 추천 때 다시 지정되도록 함
+            afterCompletion(
+                    () -> {
+                        redisTemplate.opsForHash().put(countKey, RedisKeyUtil.POST_HOT, type == null ? NO_TYPE : type.name());
+                        addToHotBoard(pId, type, score);
+                    },
+                    () -> redisTemplate.execute(RedisScriptUtil.HASH_DELETE_IF_EQUALS, List.of(countKey), RedisKeyUtil.POST_HOT, "")
+            );
+            return;
+        }
+
+        // 이미 인기 게시글이라면 인기 게시판 점수만 갱신 (플래그가 비어있다면 아직 지정 처리 중)
+        Object hotType = results.get(2);
+        if (hotType != null && !hotType.toString().isEmpty()) {
+            addToHotBoard(pId, NO_TYPE.equals(hotType.toString()) ? null : QuestionType.valueOf(hotType.toString()), score);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 onCommit을, 롤백되면 onRollback을 실행합니다. (트랜잭션 밖이라면 onCommit을 바로 실행)
+     */
+    private void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                }
+                else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    private void addToHotBoard(Long pId, QuestionType type, double score) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                ops.opsForZSet().add(RedisKeyUtil.postHotBoard(), String.valueOf(pId), score);
+                if (type != null) {
+                    ops.opsForZSet().add(RedisKeyUtil.postHotBoard(type), String.valueOf(pId), score);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Page<Long> getHotPostIds(Pageable pageable, QuestionType type) {
+        String boardKey = type == null ? RedisKeyUtil.postHotBoard() : RedisKeyUtil.postHotBoard(type);
+        long start = pageable.getOffset();
+        long end = start + pageable.getPageSize() - 1;
+
+        // 게시글 ID 범위 조회와 전체 개수 조회를 파이프라인 한 번으로 처리
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                ops.opsForZSet().reverseRange(boardKey, start, end);
+                ops.opsForZSet().zCard(boardKey);
+                return null;
+            }
+        });
+
+        Set<?> ids = (Set<?>) results.get(0);
+        List<Long> pIds = ids == null ? List.of() : ids.stream().map(id -> Long.parseLong(id.toString())).toList();
+        long total = results.get(1) == null ? 0L : ((Number) results.get(1)).longValue();
+
+        return new PageImpl<>(pIds, pageable, total);
+    }
+
+    @Scheduled(cron = "0 */10 * * * *", zone = "Asia/Seoul")
+    @Transactional
+    @Override
+    public void demoteColdPosts() {
+        long coldBefore = Instant.now().getEpochSecond() - coldAfterHours * 3600;
+        double cutoff = hotness(hotThreshold, coldBefore);
+
+        Set<String> coldPosts = redisTemplate.opsForZSet().rangeByScore(RedisKeyUtil.postHotScore(), Double.NEGATIVE_INFINITY, cutoff);
+        if (coldPosts == null || coldPosts.isEmpty()) {
+            return;
+        }
+
+        log.info("cron demote {} cold posts", coldPosts.size());
+
+        List<Long> pIds = coldPosts.stream().map(Long::parseLong).toList();
+
+        postRepository.updateHotPost(pIds, false);
+
+        // 인기 게시판에서는 DB 해제가 커밋된 후에 제거 (롤백되면 다음 주기에 다시 해제 대상으로 조회됨)
+        afterCompletion(() -> removeFromHotBoard(pIds), () -> { });
+    }
+
+    @Override
+    public void removeHotPost(Long pId) {
+        removeFromHotBoard(List.of(pId));
+    }
+
+    /**
+     * 게시글들을 인기도 점수, 전체/유형별 인기 게시판에서 제거하고 인기 게시글 플래그를 지우는 메서드입니다.
+     * 유형을 따로 조회하지 않고 모든 유형별 인기 게시판에서 제거합니다. (파이프라인 한 번)
+     */
+    private void removeFromHotBoard(List<Long> pIds) {
+        Object[] members = pIds.stream().map(String::valueOf).toArray();
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                ops.opsForZSet().remove(RedisKeyUtil.postHotScore(), members);
+                ops.opsForZSet().remove(RedisKeyUtil.postHotBoard(), members);
+                for (QuestionType type : QuestionType.values()) {
+                    ops.opsForZSet().remove(RedisKeyUtil.postHotBoard(type), members);
+                }
+                pIds.forEach(pId -> ops.opsForHash().delete(RedisKeyUtil.postCount(pId), RedisKeyUtil.POST_HOT));
+                return null;
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    @Override
+    public void rebuildHotBoard() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(RedisKeyUtil.postHotBoard()))) {
+            return;
+        }
+
+        List<Object[]> hotPosts = postRepository.findHotPostSummaries();
+        if (hotPosts.isEmpty()) {
+            return;
+        }
+
+        log.info("rebuild hot board with {} posts", hotPosts.size());
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                for (Object[] hotPost : hotPosts) {
+                    String pId = hotPost[0].toString();
+                    QuestionType type = (QuestionType) hotPost[1];
+                    LocalDateTime createdDate = (LocalDateTime) hotPost[2];
+
+                    // 추천 기록을 알 수 없으므로 기준 추천수와 작성 시각으로 게시판 정렬 점수만 계산
+                    // 인기도 점수(해제 대상)에는 넣지 않음: 작성 시각 기준 점수로 넣으면 처음 배포할 때 72시간이 지난 인기 게시글이 모두 해제되므로,
+                    // 다시 채운 게시글은 다음 추천이 들어와 인기도 점수가 생길 때까지 해제하지 않음
+                    double score = hotness(hotThreshold, createdDate.atZone(ZoneId.systemDefault()).toEpochSecond());
+
+                    ops.opsForZSet().add(RedisKeyUtil.postHotBoard(), pId, score);
+                    if (type != null) {
+                        ops.opsForZSet().add(RedisKeyUtil.postHotBoard(type), pId, score);
+                    }
+                    ops.opsForHash().put(RedisKeyUtil.postCount(Long.parseLong(pId)), RedisKeyUtil.POST_HOT, type == null ? NO_TYPE : type.name());
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 인기도 점수 계산 (log10(추천수) + 시각 / 45000)
+     *
+     * @param upVoteCount 게시글 추천수
+     * @param epochSecond 마지막 추천 시각
+     * @return 인기도 점수를 반환합니다.
+     */
+    private double hotness(long upVoteCount, long epochSecond) {
+        return log10(max(upVoteCount, 1)) + epochSecond / 45000.0;
+    }
+}
@@ -41,6 +41,15 @@ public interface MemberService {
      */
     Member findMemberByEmail(String email);
 
+    /**
+     * 회원 email 아이디를 통해 회원 고유 ID를 반환하는 메서드입니다.
+     * 회원 ID는 변하지 않으므로 Redis에 캐싱하여, 두 번째 요청부터는 DB를 조회하지 않습니다.
+     *
+     * @param email 회원 email 아이디
+     * @return 회원 고유 ID를 반환합니다.
+     */
+    Long findMemberIdByEmail(String email);
+
     /**
      * 회원 고유 ID값을 통해 회원 엔티티 객체 Member를 반환하는 메서드입니다.
      *
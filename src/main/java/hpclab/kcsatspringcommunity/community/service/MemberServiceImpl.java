@@ -33,6 +33,11 @@ public class MemberServiceImpl implements MemberService {
 
     private final RedisTemplate<String, String> redisTemplate;
 
+    /**
+     * 이메일 -> 회원 ID 캐시 유지 시간 (조회되지 않는 회원의 캐시가 계속 쌓이지 않도록 만료시킴)
+     */
+    private static final Duration MEMBER_ID_CACHE_TTL = Duration.ofDays(1);
+
     @Transactional
     @Override
     public void signUp(MemberSignUpForm form) {
@@ -85,6 +90,24 @@ public class MemberServiceImpl implements MemberService {
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
     }
 
+    @Override
+    public Long findMemberIdByEmail(String email) {
+        String memberIdKey = RedisKeyUtil.memberId(email);
+
+        String cachedId = redisTemplate.opsForValue().get(memberIdKey);
+        if (cachedId != null) {
+            return Long.parseLong(cachedId);
+        }
+
+        Long mId = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND))
+                .getId();
+
+        redisTemplate.opsForValue().set(memberIdKey, String.valueOf(mId), MEMBER_ID_CACHE_TTL);
+
+        return mId;
+    }
+
     @Transactional(readOnly = true)
     @Override
     public Member findMemberById(Long mId) {
@@ -0,0 +1,37 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+/**
+ * 게시판 목록에 표시할 게시글별 댓글 수를 COUNT 쿼리 없이 제공하는 기능을 정의한 인터페이스입니다.
+ * 댓글 수는 게시글 카운터 Hash(post:{pId}:count)의 commentCount 필드로 관리하고,
+ * 변경된 게시글만 주기적으로 post.comment_count 컬럼에 반영합니다.
+ */
+public interface PostCommentCountService {
+
+    /**
+     * 댓글이 작성되었을 때 게시글 댓글 수를 1 증가시키는 메서드입니다.
+     * 카운터가 아직 없다면 DB에서 한 번 세어 초기화합니다.
+     *
+     * @param pId 게시글 ID
+     */
+    void increaseCommentCount(Long pId);
+
+    /**
+     * 댓글이 삭제되었을 때 게시글 댓글 수를 1 감소시키는 메서드입니다.
+     * 카운터가 아직 없다면 DB에서 한 번 세어 초기화합니다.
+     *
+     * @param pId 게시글 ID
+     */
+    void decreaseCommentCount(Long pId);
+
+    /**
+     * 댓글 수가 변경된 게시글들의 Redis 댓글 수를 DB 게시글 컬럼에 반영하는 메서드입니다.
+     * 배치마다 별도 트랜잭션으로 반영하며, 주기적으로 실행됩니다.
+     */
+    void persistCommentCounts();
+
+    /**
+     * 게시글 댓글 수 컬럼과 Redis 댓글 수를 실제 댓글 수로 보정하는 메서드입니다.
+     * 카운터 초기화가 동시에 일어나 생긴 오차를 바로잡기 위해 매일 새벽 실행됩니다.
+     */
+    void reconcileCommentCounts();
+}
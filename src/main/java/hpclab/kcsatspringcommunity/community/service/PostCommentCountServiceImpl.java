@@ -0,0 +1,206 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.community.repository.CommentRepository;
+import hpclab.kcsatspringcommunity.community.repository.PostRepository;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import hpclab.kcsatspringcommunity.redis.RedisScriptUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 댓글 수 관리 로직을 구현한 클래스입니다.
+ *
+ * <p>댓글 수는 게시글 카운터 Hash에 보관하며, 댓글 작성/삭제 시 증감하고 변경된 게시글 ID의 변경 횟수를 변경 Hash에 기록합니다.
+ * 증감은 이미 초기화된 필드에만 적용하며, 필드가 없다면 DB에서 세어 채웁니다. (기능 도입 전 게시글)
+ * 변경 Hash에 쌓인 게시글만 주기적으로 DB에 반영하므로, 댓글이 달릴 때마다 게시글 행을 갱신하지 않습니다.</p>
+ *
+ * <p>DB 반영은 배치마다 별도 트랜잭션으로 처리하고, 커밋된 뒤에 변경 Hash에서 지웁니다.
+ * 이때 읽어둔 변경 횟수가 그대로인 게시글만 지우므로, 반영 도중 다시 바뀐 게시글은 다음 주기에 다시 반영됩니다.
+ * 카운터 초기화가 동시에 일어나 생길 수 있는 오차는 매일 새벽 실제 댓글 수로 보정합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCommentCountServiceImpl implements PostCommentCountService {
+
+    private final PostRepository postRepository;
+
+    private final CommentRepository commentRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 한 번에 DB에 반영(보정)하는 게시글 수
+     */
+    private static final int PERSIST_BATCH_SIZE = 500;
+
+    @Override
+    public void increaseCommentCount(Long pId) {
+        updateCommentCount(pId, 1);
+    }
+
+    @Override
+    public void decreaseCommentCount(Long pId) {
+        updateCommentCount(pId, -1);
+    }
+
+    private void updateCommentCount(Long pId, long delta) {
+        String countKey = RedisKeyUtil.postCount(pId);
+
+        Long updated = redisTemplate.execute(RedisScriptUtil.HASH_INCREMENT_IF_EXISTS, List.of(countKey),
+                String.valueOf(delta), RedisKeyUtil.POST_COMMENT_COUNT);
+
+        if (updated == null || updated == 0) {
+            // 카운터가 없다면 DB 값으로 초기화 (이번 작성/삭제는 같은 트랜잭션에서 이미 반영되어 있음)
+            redisTemplate.opsForHash().putIfAbsent(countKey, RedisKeyUtil.POST_COMMENT_COUNT,
+                    String.valueOf(commentRepository.countByPostId(pId)));
+        }
+
+        redisTemplate.opsForHash().increment(RedisKeyUtil.postCommentCountChanged(), String.valueOf(pId), 1);
+    }
+
+    @Scheduled(fixedDelayString = "${community.post.comment-count.persist-interval-ms:60000}")
+    @Override
+    public void persistCommentCounts() {
+        // 변경 Hash를 HSCAN으로 한 바퀴 돌며 배치 단위로 반영 (반영 도중 추가된 게시글은 다음 주기에 반영될 수 있음)
+        ScanOptions options = ScanOptions.scanOptions().count(PERSIST_BATCH_SIZE).build();
+        Map<String, String> batch = new LinkedHashMap<>();
+
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(RedisKeyUtil.postCommentCountChanged(), options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                batch.put(entry.getKey().toString(), entry.getValue().toString());
+
+                if (batch.size() == PERSIST_BATCH_SIZE) {
+                    persistBatch(batch);
+                    batch = new LinkedHashMap<>();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            persistBatch(batch);
+        }
+    }
+
+    /**
+     * 배치 하나를 한 트랜잭션으로 DB에 반영하고, 커밋된 뒤에 변경 Hash에서 지웁니다.
+     * 반영에 실패하면 변경 Hash에 그대로 남아 다음 주기에 다시 반영됩니다.
+     *
+     * @param changes 게시글 ID -> 읽어둔 변경 횟수
+     */
+    private void persistBatch(Map<String, String> changes) {
+        List<Long> pIds = changes.keySet().stream().map(Long::parseLong).toList();
+
+        try {
+            List<Object> counts = getCommentCounts(pIds);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < pIds.size(); i++) {
+                    Object count = counts.get(i);
+                    if (count != null) {
+                        postRepository.updateCommentCount(pIds.get(i), Long.parseLong(count.toString()));
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("post comment count persist failed, retry next time: {}", e.getMessage());
+            return;
+        }
+
+        List<String> args = new ArrayList<>();
+        changes.forEach((pId, version) -> {
+            args.add(pId);
+            args.add(version);
+        });
+        redisTemplate.execute(RedisScriptUtil.HASH_DELETE_IF_EQUALS, List.of(RedisKeyUtil.postCommentCountChanged()), args.toArray());
+    }
+
+    /**
+     * 게시글별 Redis 댓글 수를 조회합니다. (게시글별 HGET을 파이프라인으로 묶어 Redis 왕복 한 번)
+     *
+     * @return 게시글 ID 순서대로 댓글 수 (카운터가 없다면 null)
+     */
+    private List<Object> getCommentCounts(List<Long> pIds) {
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            pIds.forEach(pId -> connection.hashCommands().hGet(
+                    RedisKeyUtil.postCount(pId).getBytes(StandardCharsets.UTF_8),
+                    RedisKeyUtil.POST_COMMENT_COUNT.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+    }
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    @Override
+    public void reconcileCommentCounts() {
+        log.info("cron reconcile post comment counts");
+
+        long lastId = 0L;
+        List<Object[]> rows;
+
+        do {
+            rows = postRepository.findCommentCountsAfter(lastId, PERSIST_BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            reconcileBatch(rows);
+            lastId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+        } while (rows.size() == PERSIST_BATCH_SIZE);
+    }
+
+    /**
+     * 게시글 댓글 수 컬럼과 Redis 댓글 수를 실제 댓글 수와 비교하여 보정합니다.
+     * 어긋난 Redis 댓글 수는 지워서, 다음 댓글 작성/삭제 때 DB에서 다시 세어 채우도록 합니다. (그 사이 목록은 DB 컬럼 값 사용)
+     *
+     * @param rows [게시글 ID, 댓글 수 컬럼, 실제 댓글 수] 목록
+     */
+    private void reconcileBatch(List<Object[]> rows) {
+        List<Long> pIds = rows.stream().map(row -> ((Number) row[0]).longValue()).toList();
+        List<Object> counts = getCommentCounts(pIds);
+
+        List<Long> driftedPIds = new ArrayList<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < rows.size(); i++) {
+                long column = ((Number) rows.get(i)[1]).longValue();
+                long actual = ((Number) rows.get(i)[2]).longValue();
+
+                if (column != actual) {
+                    postRepository.updateCommentCount(pIds.get(i), actual);
+                }
+                if (counts.get(i) != null && Long.parseLong(counts.get(i).toString()) != actual) {
+                    driftedPIds.add(pIds.get(i));
+                }
+            }
+        });
+
+        if (driftedPIds.isEmpty()) {
+            return;
+        }
+
+        log.info("reset {} drifted post comment counts", driftedPIds.size());
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            driftedPIds.forEach(pId -> connection.hashCommands().hDel(
+                    RedisKeyUtil.postCount(pId).getBytes(StandardCharsets.UTF_8),
+                    RedisKeyUtil.POST_COMMENT_COUNT.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+    }
+}
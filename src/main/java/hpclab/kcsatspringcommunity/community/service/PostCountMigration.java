@@ -0,0 +1,147 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.community.repository.PostRepository;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import hpclab.kcsatspringcommunity.redis.RedisScriptUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 카운터 Hash(post:{pId}:count) 도입 전 문자열 카운터 키(post:viewCount:, post:upVote:, post:downVote:)의 값을
+ * 카운터 Hash로 옮기는 클래스입니다.
+ *
+ * <p>서버 시작 시 DB의 게시글 ID를 배치 단위로 읽어, 이전 키가 남아있는 게시글만 카운터 Hash에 더한 뒤 이전 키를 삭제합니다.
+ * 게시글마다 한 번만 더해지도록 스크립트에서 표시해두므로, 여러 서버가 동시에 실행하거나 도중에 실패하여 다시 실행해도 안전합니다.
+ * 모두 옮기고 나면 완료 키를 남겨, 이후 서버 시작 때는 게시글을 다시 읽지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountMigration {
+
+    private final PostRepository postRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * false라면 서버 시작 시 이전 카운터 키를 옮기지 않습니다.
+     */
+    @Value("${community.post.count.migrate-legacy-keys:true}")
+    private boolean enabled;
+
+    /**
+     * 한 번에 처리하는 게시글 수
+     */
+    private static final int MIGRATE_BATCH_SIZE = 1000;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyPostCounts() {
+        if (!enabled || Boolean.TRUE.equals(redisTemplate.hasKey(RedisKeyUtil.postCountMigrated()))) {
+            return;
+        }
+
+        log.info("migrate legacy post counter keys");
+
+        long lastId = 0L;
+        long migrated = 0L;
+        List<Long> pIds;
+
+        do {
+            pIds = postRepository.findIdsAfter(lastId, Limit.of(MIGRATE_BATCH_SIZE));
+            if (pIds.isEmpty()) {
+                break;
+            }
+
+            migrated += migrateBatch(pIds);
+            lastId = pIds.get(pIds.size() - 1);
+        } while (pIds.size() == MIGRATE_BATCH_SIZE);
+
+        redisTemplate.opsForValue().set(RedisKeyUtil.postCountMigrated(), "1");
+        log.info("migrated legacy post counters of {} posts", migrated);
+    }
+
+    /**
+     * 게시글 배치 하나의 이전 카운터 키를 파이프라인으로 읽고, 값이 있는 게시글만 카운터 Hash에 더한 뒤 이전 키를 삭제합니다.
+     *
+     * @return 이전 키가 남아있던 게시글 수
+     */
+    private int migrateBatch(List<Long> pIds) {
+        List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            pIds.forEach(pId -> legacyKeys(pId).forEach(key -> connection.stringCommands().get(bytes(key))));
+            return null;
+        });
+
+        List<Long> legacyPIds = new ArrayList<>();
+        List<String[]> legacyCounts = new ArrayList<>();
+
+        for (int i = 0; i < pIds.size(); i++) {
+            Object view = values.get(3 * i);
+            Object up = values.get(3 * i + 1);
+            Object down = values.get(3 * i + 2);
+
+            if (view != null || up != null || down != null) {
+                legacyPIds.add(pIds.get(i));
+                legacyCounts.add(new String[]{count(view), count(up), count(down)});
+            }
+        }
+
+        if (legacyPIds.isEmpty()) {
+            return 0;
+        }
+
+        byte[] script = bytes(RedisScriptUtil.POST_COUNT_MIGRATE.getScriptAsString());
+
+        // 카운터 Hash에 먼저 더한 뒤 이전 키를 삭제 (삭제 전에 실패하면 다음 실행 때 스크립트가 중복 반영을 막음)
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < legacyPIds.size(); i++) {
+                String[] counts = legacyCounts.get(i);
+                connection.scriptingCommands().eval(
+                        script, ReturnType.INTEGER, 1,
+                        bytes(RedisKeyUtil.postCount(legacyPIds.get(i))),
+                        bytes(RedisKeyUtil.POST_VIEW_COUNT),
+                        bytes(RedisKeyUtil.POST_UP_VOTE),
+                        bytes(RedisKeyUtil.POST_DOWN_VOTE),
+                        bytes(RedisKeyUtil.POST_LEGACY_UP_VOTE),
+                        bytes(RedisKeyUtil.POST_LEGACY_DOWN_VOTE),
+                        bytes(counts[0]),
+                        bytes(counts[1]),
+                        bytes(counts[2]));
+            }
+            return null;
+        });
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            legacyPIds.forEach(pId -> legacyKeys(pId).forEach(key -> connection.keyCommands().del(bytes(key))));
+            return null;
+        });
+
+        return legacyPIds.size();
+    }
+
+    private List<String> legacyKeys(Long pId) {
+        return List.of(
+                RedisKeyUtil.legacyPostViewCount(pId),
+                RedisKeyUtil.legacyPostUpVote(pId),
+                RedisKeyUtil.legacyPostDownVote(pId));
+    }
+
+    private String count(Object value) {
+        return value == null ? "0" : value.toString();
+    }
+
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
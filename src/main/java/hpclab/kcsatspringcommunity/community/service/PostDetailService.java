@@ -0,0 +1,18 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.community.dto.PostDetailForm;
+
+/**
+ * 게시글 상세 화면 정보를 한 번에 조회하는 기능을 정의한 인터페이스입니다.
+ */
+public interface PostDetailService {
+
+    /**
+     * 게시글 조회수를 올린 뒤, 게시글, 댓글, 카운터, 회원 투표 정보를 동시에 조회하여 하나로 묶는 메서드입니다.
+     *
+     * @param pId 게시글 ID
+     * @param userEmail 조회하는 회원 email
+     * @return 게시글 상세 화면 정보를 반환합니다.
+     */
+    PostDetailForm getPostDetail(Long pId, String userEmail);
+}
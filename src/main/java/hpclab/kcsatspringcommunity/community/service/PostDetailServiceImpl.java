@@ -0,0 +1,88 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.community.dto.CommentCursorPageForm;
+import hpclab.kcsatspringcommunity.community.dto.PostCountForm;
+import hpclab.kcsatspringcommunity.community.dto.PostDetailForm;
+import hpclab.kcsatspringcommunity.community.dto.PostResponseForm;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 게시글 상세 화면 정보 조회 로직을 구현한 클래스입니다.
+ *
+ * <p>게시글(DB), 댓글 첫 페이지와 인기 댓글(DB + Redis), 게시글 카운터(Redis), 회원 투표(Redis) 조회를 제한된 스레드 풀(postDetailExecutor)에서 동시에 실행합니다.
+ * 작업 스레드에는 요청의 영속성 컨텍스트가 없으므로, 각 작업은 트랜잭션이 걸린 서비스 메서드 안에서 DTO까지 만들어 반환합니다.
+ * 하나의 작업이 실패하면 아직 시작하지 않은 나머지 작업은 취소하고 바로 실패를 반환합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostDetailServiceImpl implements PostDetailService {
+
+    private final PostService postService;
+    private final CommentService commentService;
+
+    /**
+     * ThreadPoolTaskExecutor Bean이 여러 개이므로 postDetailExecutor Bean을 지정하여 주입받습니다.
+     * (lombok.config에서 @Qualifier를 생성자 파라미터로 복사하도록 설정)
+     */
+    @Qualifier("postDetailExecutor")
+    private final ThreadPoolTaskExecutor postDetailExecutor;
+
+    /**
+     * 상세 화면에서 함께 조회하는 댓글 수 (다음 페이지는 댓글 커서 API로 조회)
+     */
+    private static final int DETAIL_COMMENT_PAGE_SIZE = 20;
+
+    @Override
+    public PostDetailForm getPostDetail(Long pId, String userEmail) {
+        // 조회수를 먼저 올려서, 함께 조회하는 카운터에 이번 조회가 반영되도록 함
+        postService.increasePostViewCount(pId, userEmail);
+
+        CompletableFuture<PostResponseForm> post =
+                CompletableFuture.supplyAsync(() -> postService.getPostResponse(pId), postDetailExecutor);
+        CompletableFuture<PostCountForm> postCount =
+                CompletableFuture.supplyAsync(() -> postService.getPostCount(pId), postDetailExecutor);
+        CompletableFuture<CommentCursorPageForm> comments =
+                CompletableFuture.supplyAsync(() -> commentService.getCommentsByCursor(pId, null, DETAIL_COMMENT_PAGE_SIZE), postDetailExecutor);
+        CompletableFuture<Integer> myVote =
+                CompletableFuture.supplyAsync(() -> postService.getMyPostVote(pId, userEmail), postDetailExecutor);
+
+        // 처음 실패한 작업의 예외를 기록하고, 나머지 작업을 취소하여 실패한 요청이 스레드 풀을 더 점유하지 않도록 함
+        List<CompletableFuture<?>> futures = List.of(post, postCount, comments, myVote);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        futures.forEach(future -> future.whenComplete((result, e) -> {
+            if (e != null && !(e instanceof CancellationException)) {
+                failure.compareAndSet(null, e instanceof CompletionException ? e.getCause() : e);
+                futures.forEach(sibling -> sibling.cancel(false));
+            }
+        }));
+
+        try {
+            CompletableFuture.allOf(post, postCount, comments, myVote).join();
+        } catch (CompletionException | CancellationException e) {
+            // 작업 중 발생한 ApiException 등은 그대로 던져서 GlobalExceptionHandler가 처리하도록 함
+            if (failure.get() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        PostResponseForm postResponseForm = post.join();
+        PostCountForm count = postCount.join();
+        postResponseForm.setPostViewCount(count.getViewCount());
+        postResponseForm.setUpVoteCount(count.getUpVoteCount());
+        postResponseForm.setDownVoteCount(count.getDownVoteCount());
+
+        return new PostDetailForm(postResponseForm, comments.join(), myVote.join());
+    }
+}
@@ -1,12 +1,19 @@
 package hpclab.kcsatspringcommunity.community.service;
 
 import hpclab.kcsatspringcommunity.community.domain.Post;
+import hpclab.kcsatspringcommunity.community.dto.PostCountForm;
+import hpclab.kcsatspringcommunity.community.dto.PostCursorPageForm;
 import hpclab.kcsatspringcommunity.community.dto.PostResponseForm;
+import hpclab.kcsatspringcommunity.community.dto.PostSummaryForm;
 import hpclab.kcsatspringcommunity.community.dto.PostWriteForm;
 import hpclab.kcsatspringcommunity.question.domain.QuestionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 회원 커뮤니티 게시판의 게시글 관련 상호작용 로직을 정의한 인터페이스입니다.
  */
@@ -34,11 +41,12 @@ public interface PostService {
 
     /**
      * 게시글 목록을 조회하는 메서드입니다.
+     * 목록에는 본문 앞부분, 첨부 문제 유형 등 요약 정보만 담습니다.
      *
      * @param pageable 페이지 정보 객체
      * @return Page 단위로 게시글을 조회하여 반환합니다.
      */
-    Page<PostResponseForm> getPostList(Pageable pageable);
+    Page<PostSummaryForm> getPostList(Pageable pageable);
 
     /**
      * 게시글 첨부 문제 유형, 검색어로 필터링한 후, 게시글 목록을 조회하는 메서드입니다.
@@ -48,7 +56,7 @@ public interface PostService {
      * @param type 첨부 문제 유형
      * @return Page 단위로 게시글을 조회하여 반환합니다.
      */
-    Page<PostResponseForm> getFindPostList(Pageable pageable, String keyword, QuestionType type);
+    Page<PostSummaryForm> getFindPostList(Pageable pageable, String keyword, QuestionType type);
 
     /**
      * 인기 게시글 목록을 조회하는 메서드입니다.
@@ -56,7 +64,7 @@ public interface PostService {
      * @param pageable 페이지 정보 객체
      * @return Page 단위로 인기 게시글을 조회하여 반환합니다.
      */
-    Page<PostResponseForm> getHotPostList(Pageable pageable);
+    Page<PostSummaryForm> getHotPostList(Pageable pageable);
 
     /**
      * 인기 게시글 첨부 문제 유형, 검색어로 필터링한 후, 인기 게시글 목록을 조회하는 메서드입니다.
@@ -66,7 +74,32 @@ public interface PostService {
      * @param type 첨부 문제 유형
      * @return Page 단위로 인기 게시글을 조회하여 반환합니다.
      */
-    Page<PostResponseForm> getFindHotPostList(Pageable pageable, String keyword, QuestionType type);
+    Page<PostSummaryForm> getFindHotPostList(Pageable pageable, String keyword, QuestionType type);
+
+    /**
+     * 커서 기반으로 게시글 목록을 조회하는 메서드입니다.
+     * OFFSET과 전체 개수 COUNT 쿼리를 사용하지 않으므로, 페이지 깊이와 상관없이 조회 속도가 일정합니다.
+     *
+     * @param cursorDate 이전 페이지 마지막 게시글 작성 시간 (첫 페이지라면 null, cursorId와 함께 넘기지 않으면 INVALID_INPUT)
+     * @param cursorId 이전 페이지 마지막 게시글 ID (첫 페이지라면 null, cursorDate와 함께 넘기지 않으면 INVALID_INPUT)
+     * @param size 페이지 크기 (1 ~ 100, 범위를 벗어나면 INVALID_INPUT)
+     * @param keyword 게시글 검색 키워드 (optional)
+     * @param type 첨부 문제 유형 (optional)
+     * @return 게시글 목록과 다음 페이지 커서를 반환합니다.
+     */
+    PostCursorPageForm getPostListByCursor(LocalDateTime cursorDate, Long cursorId, int size, String keyword, QuestionType type);
+
+    /**
+     * 커서 기반으로 인기 게시글 목록을 조회하는 메서드입니다.
+     *
+     * @param cursorDate 이전 페이지 마지막 게시글 작성 시간 (첫 페이지라면 null, cursorId와 함께 넘기지 않으면 INVALID_INPUT)
+     * @param cursorId 이전 페이지 마지막 게시글 ID (첫 페이지라면 null, cursorDate와 함께 넘기지 않으면 INVALID_INPUT)
+     * @param size 페이지 크기 (1 ~ 100, 범위를 벗어나면 INVALID_INPUT)
+     * @param keyword 인기 게시글 검색 키워드 (optional)
+     * @param type 첨부 문제 유형 (optional)
+     * @return 인기 게시글 목록과 다음 페이지 커서를 반환합니다.
+     */
+    PostCursorPageForm getHotPostListByCursor(LocalDateTime cursorDate, Long cursorId, int size, String keyword, QuestionType type);
 
     /**
      * pId에 맞는 게시글을 조회하는 메서드입니다.
@@ -76,6 +109,15 @@ public interface PostService {
      */
     Post getPost(Long pId);
 
+    /**
+     * 게시글 상세 정보 DTO를 조회하는 메서드입니다. (카운터 제외)
+     * 첨부 문제, 보기까지 트랜잭션 안에서 DTO로 변환하므로, 영속성 컨텍스트가 없는 스레드에서도 호출할 수 있습니다.
+     *
+     * @param pId 게시글 ID
+     * @return 게시글 상세 정보를 반환합니다.
+     */
+    PostResponseForm getPostResponse(Long pId);
+
     /**
      * pId에 맞는 게시글을 제출한 양식에 맞게 수정하는 메서드입니다.
      *
@@ -102,12 +144,12 @@ public interface PostService {
 
     /**
      * 게시글 조회수를 1 증가시키는 메서드입니다.
+     * 화면에 보일 조회수는 getPostCount로 조회합니다.
      *
      * @param pId 게시글 ID
      * @param userEmail 회원 email 아이디
-     * @return 게시글 조회수를 반환합니다.
      */
-    String increasePostViewCount(Long pId, String userEmail);
+    void increasePostViewCount(Long pId, String userEmail);
 
     /**
      * 게시글 조회수를 조회하는 메서드입니다.
@@ -118,8 +160,26 @@ public interface PostService {
     String getPostViewCount(Long pId);
 
     /**
-     * 게시글 추천수를 1 증가시키는 메서드입니다.
-     * <p><b>회원은 1일 2회 이상 추천/비추천할 수 없습니다.</b></p>
+     * 게시글 조회수, 추천수, 비추천수를 한 번의 Redis 요청(HGETALL)으로 가져오는 메서드입니다.
+     *
+     * @param pId 게시글 ID
+     * @return 게시글 카운터 정보를 반환합니다. 값이 없는 카운터는 0으로 채웁니다.
+     */
+    PostCountForm getPostCount(Long pId);
+
+    /**
+     * 여러 게시글의 조회수, 추천수, 비추천수를 한 번의 Redis 왕복(HGETALL 파이프라인)으로 가져오는 메서드입니다.
+     * 게시글 목록 조회 시, 게시글마다 Redis를 따로 조회하지 않도록 사용합니다.
+     *
+     * @param pIds 게시글 ID 목록
+     * @return 게시글 ID별 카운터 정보를 반환합니다. 값이 없는 카운터는 0으로 채웁니다.
+     */
+    Map<Long, PostCountForm> getPostCounts(List<Long> pIds);
+
+    /**
+     * 게시글을 추천하는 메서드입니다.
+     * <p><b>회원은 게시글마다 하나의 투표만 가질 수 있습니다.</b></p>
+     * 이미 추천했다면 아무것도 바뀌지 않고, 비추천했었다면 추천으로 변경됩니다.
      *
      * @param pId 게시글 ID
      * @param userEmail 회원 email 아이디
@@ -128,8 +188,9 @@ public interface PostService {
     String increasePostVoteCount(Long pId, String userEmail);
 
     /**
-     * 게시글 비추천수를 1 증가시키는 메서드입니다.
-     * <p><b>회원은 1일 2회 이상 추천/비추천할 수 없습니다.</b></p>
+     * 게시글을 비추천하는 메서드입니다.
+     * <p><b>회원은 게시글마다 하나의 투표만 가질 수 있습니다.</b></p>
+     * 이미 비추천했다면 아무것도 바뀌지 않고, 추천했었다면 비추천으로 변경됩니다.
      *
      * @param pId 게시글 ID
      * @param userEmail 회원 email 아이디
@@ -152,4 +213,28 @@ public interface PostService {
      * @return 게시글 비추천수를 반환합니다.
      */
     String getDecreasePostVoteCount(Long pId);
+
+    /**
+     * 회원이 게시글에 한 투표를 조회하는 메서드입니다.
+     *
+     * @param pId 게시글 ID
+     * @param userEmail 회원 email 아이디
+     * @return 추천이라면 1, 비추천이라면 -1, 투표하지 않았다면 0을 반환합니다.
+     */
+    int getMyPostVote(Long pId, String userEmail);
+
+    /**
+     * 게시글 추천 장부를 기준으로 추천/비추천수를 다시 계산하는 메서드입니다.
+     * 카운터가 장부와 어긋났을 때 복구하는 용도로 사용합니다. (장부 도입 전 투표도 함께 더함)
+     *
+     * @param pId 게시글 ID
+     * @return 다시 계산된 게시글 카운터 정보를 반환합니다.
+     */
+    PostCountForm recountPostVote(Long pId);
+
+    /**
+     * 모든 게시글의 추천/비추천수를 추천 장부 기준으로 다시 계산하는 메서드입니다.
+     * 매일 새벽 5시에 실행됩니다.
+     */
+    void reconcilePostVotes();
 }
@@ -1,29 +1,49 @@
 package hpclab.kcsatspringcommunity.community.service;
 
 import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import hpclab.kcsatspringcommunity.redis.RedisScriptUtil;
 import hpclab.kcsatspringcommunity.community.domain.Member;
 import hpclab.kcsatspringcommunity.community.domain.Post;
+import hpclab.kcsatspringcommunity.community.dto.PostCountForm;
+import hpclab.kcsatspringcommunity.community.dto.PostCursorPageForm;
 import hpclab.kcsatspringcommunity.community.dto.PostResponseForm;
+import hpclab.kcsatspringcommunity.community.dto.PostSummaryForm;
 import hpclab.kcsatspringcommunity.community.dto.PostWriteForm;
 import hpclab.kcsatspringcommunity.community.repository.PostRepository;
 import hpclab.kcsatspringcommunity.exception.ApiException;
 import hpclab.kcsatspringcommunity.exception.ErrorCode;
+import hpclab.kcsatspringcommunity.live.service.PostLivePublisher;
 import hpclab.kcsatspringcommunity.myBook.service.BookQuestionService;
-import hpclab.kcsatspringcommunity.question.domain.Question;
 import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import hpclab.kcsatspringcommunity.question.dto.QuestionDetailsDto;
 import hpclab.kcsatspringcommunity.question.service.QuestionService;
+import hpclab.kcsatspringcommunity.search.service.SearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -36,8 +56,42 @@ public class PostServiceImpl implements PostService {
     private final MemberService memberService;
     private final QuestionService questionService;
     private final BookQuestionService bookQuestionService;
+    private final HotPostService hotPostService;
+    private final PostTotalService postTotalService;
+    private final SearchService searchService;
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final PostLivePublisher postLivePublisher;
+
+    /**
+     * true라면 조회수 증가분을 서버 메모리에 모았다가 주기적으로 Redis에 반영합니다. (PostViewCountBuffer 참조)
+     */
+    @Value("${community.post.view-count.write-behind:false}")
+    private boolean viewCountWriteBehind;
+
+    /**
+     * 게시글 추천 장부 투표 값
+     */
+    private static final String VOTE_UP = "1";
+    private static final String VOTE_DOWN = "-1";
+
+    /**
+     * 게시글 일별 조회 회원 Set 유지 시간 (날짜가 바뀐 뒤 자동으로 만료되도록 하루 여유를 둠)
+     */
+    static final String VIEWED_MEMBERS_TTL_SECONDS = String.valueOf(Duration.ofDays(2).toSeconds());
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+
+    /**
+     * 커서 기반 게시글 조회 시 한 페이지 최대 게시글 수
+     */
+    private static final int MAX_POST_PAGE_SIZE = 100;
+
+    /**
+     * 추천/비추천수 재계산 시 한 번에 처리하는 게시글 수
+     */
+    private static final int VOTE_RECOUNT_BATCH_SIZE = 500;
 
 
     // 게시글 저장
@@ -64,13 +118,14 @@ public class PostServiceImpl implements PostService {
                     .build();
         }
         else {
-            Question question = questionService.getQuestion(postWriteForm.getQId());
+            // 첨부 문제는 캐시에서 유형만 확인하고, 연관관계는 참조 객체로 설정 (문제 조회 쿼리 없음)
+            QuestionDetailsDto question = questionService.getQuestionDetails(postWriteForm.getQId());
 
             result = Post.builder()
                     .postTitle(postWriteForm.getTitle())
                     .postContent(postWriteForm.getContent())
-                    .questionType(question.getType())
-                    .question(question)
+                    .questionType(question.getQuestionType())
+                    .question(questionService.getQuestionReference(postWriteForm.getQId()))
                     .member(member)
                     .build();
         }
@@ -78,6 +133,11 @@ public class PostServiceImpl implements PostService {
         postRepository.save(result);
 
         setPostCount(result.getId());
+        searchService.indexPost(result);
+
+        // 전체 게시글 수는 커밋된 후에 증가 (롤백된 게시글이 게시판 전체 개수에 남지 않도록)
+        QuestionType questionType = result.getQuestionType();
+        afterCommit(() -> postTotalService.increasePostTotal(questionType));
 
         return result.getId();
     }
@@ -95,47 +155,126 @@ public class PostServiceImpl implements PostService {
             throw new ApiException(ErrorCode.DUPLICATE_QUESTION_SAVE);
         }
 
-        Question question = questionService.getQuestion(qId);
         bookQuestionService.saveQuestion(qId, userEmail);
-        questionService.saveQuestion(question);
 
         return qId;
     }
 
     @Transactional(readOnly = true)
     @Override
-    public Page<PostResponseForm> getPostList(Pageable pageable) {
-        Page<Post> posts = postRepository.findAll(pageable);
-        return makePostPageDTO(pageable, posts);
+    public Page<PostSummaryForm> getPostList(Pageable pageable) {
+        List<PostSummaryForm> posts = postRepository.findPostsByQuestionTypeAndTitle(pageable, null, null);
+        return makePostPageDTO(pageable, posts, postTotalService.getPostTotal(null));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Page<PostSummaryForm> getFindPostList(Pageable pageable, String keyword, QuestionType type) {
+        List<PostSummaryForm> posts = postRepository.findPostsByQuestionTypeAndTitle(pageable, keyword, type);
+
+        // 검색어가 없다면 유형별 게시글 수 카운터, 있다면 캐싱된 검색 결과 수 사용
+        long total = (keyword == null || keyword.isEmpty())
+                ? postTotalService.getPostTotal(type)
+                : postTotalService.getSearchTotal(keyword, type, false);
+
+        return makePostPageDTO(pageable, posts, total);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Page<PostSummaryForm> getHotPostList(Pageable pageable) {
+        return makeHotBoardPageDTO(pageable, null);
     }
 
     @Transactional(readOnly = true)
     @Override
-    public Page<PostResponseForm> getFindPostList(Pageable pageable, String keyword, QuestionType type) {
-        Page<Post> posts = postRepository.findPostsByQuestionTypeAndTitle(pageable, keyword, type);
-        return makePostPageDTO(pageable, posts);
+    public Page<PostSummaryForm> getFindHotPostList(Pageable pageable, String keyword, QuestionType type) {
+        // 유형 필터만 있다면 유형별 인기 게시판 Sorted Set에서 조회
+        if (keyword == null || keyword.isEmpty()) {
+            return makeHotBoardPageDTO(pageable, type);
+        }
+
+        List<PostSummaryForm> posts = postRepository.findHotPostsByQuestionTypeAndTitle(pageable, keyword, type);
+        return makePostPageDTO(pageable, posts, postTotalService.getSearchTotal(keyword, type, true));
+    }
+
+    /**
+     * Redis 인기 게시판에서 인기도 순으로 게시글 ID를 가져온 뒤, 게시글 요약 정보는 한 번의 쿼리로 채워 넣는 메서드입니다.
+     */
+    private Page<PostSummaryForm> makeHotBoardPageDTO(Pageable pageable, QuestionType type) {
+        Page<Long> hotPostIds = hotPostService.getHotPostIds(pageable, type);
+
+        Map<Long, PostSummaryForm> postsById = new HashMap<>();
+        if (hotPostIds.hasContent()) {
+            postRepository.findPostSummariesByIdIn(hotPostIds.getContent())
+                    .forEach(post -> postsById.put(post.getPId(), post));
+        }
+
+        // 인기도 순서를 유지하고, 그 사이 삭제된 게시글은 제외
+        List<PostSummaryForm> hotPosts = hotPostIds.getContent().stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return makePostPageDTO(pageable, hotPosts, hotPostIds.getTotalElements());
     }
 
     @Transactional(readOnly = true)
     @Override
-    public Page<PostResponseForm> getHotPostList(Pageable pageable) {
-        Page<Post> hotPosts = postRepository.findHotPosts(pageable);
-        return makePostPageDTO(pageable, hotPosts);
+    public PostCursorPageForm getPostListByCursor(LocalDateTime cursorDate, Long cursorId, int size, String keyword, QuestionType type) {
+        validateCursor(cursorDate, cursorId, size);
+
+        List<PostSummaryForm> posts = postRepository.findPostsByCursor(cursorDate, cursorId, size, keyword, type, false);
+        return makePostCursorPageDTO(size, posts);
     }
 
     @Transactional(readOnly = true)
     @Override
-    public Page<PostResponseForm> getFindHotPostList(Pageable pageable, String keyword, QuestionType type) {
-        Page<Post> posts = postRepository.findHotPostsByQuestionTypeAndTitle(pageable, keyword, type);
-        return makePostPageDTO(pageable, posts);
+    public PostCursorPageForm getHotPostListByCursor(LocalDateTime cursorDate, Long cursorId, int size, String keyword, QuestionType type) {
+        validateCursor(cursorDate, cursorId, size);
+
+        List<PostSummaryForm> posts = postRepository.findPostsByCursor(cursorDate, cursorId, size, keyword, type, true);
+        return makePostCursorPageDTO(size, posts);
     }
 
-    private Page<PostResponseForm> makePostPageDTO(Pageable pageable, Page<Post> posts) {
-        List<PostResponseForm> postResponseForm = new ArrayList<>();
+    private void validateCursor(LocalDateTime cursorDate, Long cursorId, int size) {
+        if (size < 1 || size > MAX_POST_PAGE_SIZE) {
+            throw new ApiException(ErrorCode.INVALID_INPUT);
+        }
+        // 커서 값이 하나만 넘어오면 첫 페이지로 조회하지 않고 잘못된 요청으로 처리
+        if ((cursorDate == null) != (cursorId == null)) {
+            throw new ApiException(ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    private PostCursorPageForm makePostCursorPageDTO(int size, List<PostSummaryForm> posts) {
+        // size + 1개를 조회하여, 초과분이 있다면 다음 페이지가 존재하는 것으로 판단
+        boolean hasNext = posts.size() > size;
+        List<PostSummaryForm> page = hasNext ? posts.subList(0, size) : posts;
+
+        fillPostCounts(page);
+
+        if (page.isEmpty()) {
+            return new PostCursorPageForm(page, null, null, false);
+        }
+
+        PostSummaryForm last = page.get(page.size() - 1);
+        return new PostCursorPageForm(page, last.getPostDate(), last.getPId(), hasNext);
+    }
+
+    private Page<PostSummaryForm> makePostPageDTO(Pageable pageable, List<PostSummaryForm> posts, long total) {
+        fillPostCounts(posts);
+
+        return new PageImpl<>(posts, pageable, total);
+    }
 
-        posts.forEach(post -> postResponseForm.add(new PostResponseForm(post, Long.parseLong(getPostViewCount(post.getId())))));
+    /**
+     * 게시글 요약 목록에 Redis 카운터(조회수, 추천수, 비추천수, 댓글 수)를 한 번의 파이프라인으로 채워 넣는 메서드입니다.
+     */
+    private void fillPostCounts(List<PostSummaryForm> posts) {
+        Map<Long, PostCountForm> postCounts = getPostCounts(posts.stream().map(PostSummaryForm::getPId).toList());
 
-        return new PageImpl<>(postResponseForm, pageable, posts.getTotalElements());
+        posts.forEach(post -> post.setCounts(postCounts.get(post.getPId())));
     }
 
     @Transactional(readOnly = true)
@@ -147,13 +286,20 @@ public class PostServiceImpl implements PostService {
 
     @Transactional(readOnly = true)
     @Override
+    public PostResponseForm getPostResponse(Long pId) {
+        return new PostResponseForm(getPost(pId));
+    }
+
+    @Transactional
+    @Override
     public PostResponseForm updatePost(Long pId, PostWriteForm postWriteForm) {
         Post post = postRepository.findByIdWithComments(pId)
                 .orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
 
         post.update(postWriteForm.getTitle(), postWriteForm.getContent());
+        searchService.indexPost(post);
 
-        return new PostResponseForm(post, Long.parseLong(getPostViewCount(post.getId())));
+        return new PostResponseForm(post, getPostCount(post.getId()));
     }
 
     @Transactional
@@ -162,128 +308,281 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findById(pId)
                 .orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
         postRepository.delete(post);
+
+        searchService.removePost(pId);
+
+        // 삭제가 커밋된 뒤에 전체 게시글 수를 줄이고 게시글 Redis 키를 정리 (롤백되면 카운터, 추천 장부가 그대로 남아야 함)
+        QuestionType questionType = post.getQuestionType();
+        afterCommit(() -> {
+            postTotalService.decreasePostTotal(questionType);
+            hotPostService.removeHotPost(pId);
+            postViewCountBuffer.discard(pId);
+            redisTemplate.delete(postKeys(pId));
+        });
+    }
+
+    /**
+     * 게시글 하나에 속한 Redis 키 목록입니다. (모두 {pId} 해시 태그라 한 번의 DEL로 삭제 가능)
+     * 일별 조회 회원 Set은 유지 시간 동안 남아있을 수 있는 오늘, 어제 키를 포함합니다.
+     */
+    private List<String> postKeys(Long pId) {
+        LocalDate today = LocalDate.now(ZONE_SEOUL);
+
+        return List.of(
+                RedisKeyUtil.postCount(pId),
+                RedisKeyUtil.postVote(pId),
+                RedisKeyUtil.postHotComment(pId),
+                RedisKeyUtil.postHotCommentSeeded(pId),
+                RedisKeyUtil.postViewedMembers(pId, today.format(DateTimeFormatter.BASIC_ISO_DATE)),
+                RedisKeyUtil.postViewedMembers(pId, today.minusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE))
+        );
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후에 실행합니다. (트랜잭션 밖이라면 바로 실행)
+     */
+    private void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        }
+        else {
+            runnable.run();
+        }
     }
 
     @Override
     public String setPostCount(Long pId) {
 
-        String viewCount = RedisKeyUtil.postViewCount(pId);
-        String upVote = RedisKeyUtil.postUpVote(pId);
-        String downVote = RedisKeyUtil.postDownVote(pId);
+        Map<String, String> counts = new HashMap<>();
+        counts.put(RedisKeyUtil.POST_VIEW_COUNT, "0");
+        counts.put(RedisKeyUtil.POST_UP_VOTE, "0");
+        counts.put(RedisKeyUtil.POST_DOWN_VOTE, "0");
+        counts.put(RedisKeyUtil.POST_COMMENT_COUNT, "0");
 
-        redisTemplate.opsForValue().set(viewCount, "0");
-        redisTemplate.opsForValue().set(upVote, "0");
-        redisTemplate.opsForValue().set(downVote, "0");
+        redisTemplate.opsForHash().putAll(RedisKeyUtil.postCount(pId), counts);
 
-        return redisTemplate.opsForValue().get(viewCount);
+        return "0";
     }
 
     @Override
-    public String increasePostViewCount(Long pId, String userEmail) {
-
-        String viewCountKey = RedisKeyUtil.postViewCount(pId);
-        String userViewKey = RedisKeyUtil.postUserCheck(pId, userEmail);
-
-        if (!redisTemplate.hasKey(userViewKey)) {
-            redisTemplate.opsForValue().increment(viewCountKey);
-            redisTemplate.opsForValue().set(userViewKey, "1", Duration.ofHours(24));
+    public void increasePostViewCount(Long pId, String userEmail) {
+
+        // 회원 조회 여부는 게시글마다 하루 하나의 Set에 회원 ID로 기록
+        // (회원 ID 위치의 비트맵은 ID가 큰 회원 한 명만 조회해도 ID 크기만큼 메모리를 잡으므로, 실제 조회한 회원 수에 비례하는 Set 사용)
+        String mId = String.valueOf(memberService.findMemberIdByEmail(userEmail));
+        String viewedKey = RedisKeyUtil.postViewedMembers(pId, LocalDate.now(ZONE_SEOUL).format(DateTimeFormatter.BASIC_ISO_DATE));
+
+        if (!viewCountWriteBehind) {
+            redisTemplate.execute(
+                    RedisScriptUtil.FIRST_VISIT_HASH_INCREMENT,
+                    List.of(viewedKey, RedisKeyUtil.postCount(pId)),
+                    mId, RedisKeyUtil.POST_VIEW_COUNT, VIEWED_MEMBERS_TTL_SECONDS
+            );
+            return;
         }
 
-        return redisTemplate.opsForValue().get(viewCountKey);
+        // write-behind 모드: 조회 회원을 메모리에 모았다가 중복 체크와 증가를 주기적으로 한 번에 반영 (조회마다 게시글 키를 호출하지 않음)
+        // 화면에 보일 조회수는 getPostCount에서 카운터와 반영 대기 증가분을 합쳐 계산하므로, 여기서는 카운터 키를 읽지 않음
+        postViewCountBuffer.increase(pId, viewedKey, mId);
     }
 
     @Override
     public String getPostViewCount(Long pId) {
-        return redisTemplate.opsForValue().get(RedisKeyUtil.postViewCount(pId));
+        String viewCount = (String) redisTemplate.opsForHash().get(RedisKeyUtil.postCount(pId), RedisKeyUtil.POST_VIEW_COUNT);
+        long flushed = viewCount == null ? 0L : Long.parseLong(viewCount);
+
+        return String.valueOf(flushed + postViewCountBuffer.getPending(pId));
     }
 
-    @Transactional
     @Override
-    public String increasePostVoteCount(Long pId, String userEmail) {
+    public PostCountForm getPostCount(Long pId) {
+        return toPostCountForm(pId, redisTemplate.opsForHash().entries(RedisKeyUtil.postCount(pId)));
+    }
 
-        String upVoteKey = RedisKeyUtil.postUpVote(pId);
-        String userVoteKey = RedisKeyUtil.postUserCheck(pId, userEmail);
+    @Override
+    public Map<Long, PostCountForm> getPostCounts(List<Long> pIds) {
+        Map<Long, PostCountForm> postCounts = new HashMap<>();
 
-        Boolean success = redisTemplate.opsForValue()
-                .setIfAbsent(userVoteKey, "1", Duration.ofHours(24));
+        if (pIds.isEmpty()) {
+            return postCounts;
+        }
+
+        // 게시글별 HGETALL을 파이프라인으로 묶어 Redis 왕복 한 번으로 조회
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            pIds.forEach(pId -> connection.hashCommands()
+                    .hGetAll(RedisKeyUtil.postCount(pId).getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
 
-        if (Boolean.TRUE.equals(success)) {
-            redisTemplate.opsForValue().increment(upVoteKey);
+        for (int i = 0; i < pIds.size(); i++) {
+            postCounts.put(pIds.get(i), toPostCountForm(pIds.get(i), (Map<?, ?>) results.get(i)));
         }
 
-        String nowVote = redisTemplate.opsForValue().get(upVoteKey);
+        return postCounts;
+    }
 
-        try {
-            if (nowVote != null && Long.parseLong(nowVote) >= 20) {
-                Post post = postRepository.findById(pId)
-                        .orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
+    private PostCountForm toPostCountForm(Long pId, Map<?, ?> counts) {
+        return new PostCountForm(
+                parseCount(counts, RedisKeyUtil.POST_VIEW_COUNT) + postViewCountBuffer.getPending(pId),
+                parseCount(counts, RedisKeyUtil.POST_UP_VOTE),
+                parseCount(counts, RedisKeyUtil.POST_DOWN_VOTE),
+                counts == null || counts.get(RedisKeyUtil.POST_COMMENT_COUNT) == null ? null : parseCount(counts, RedisKeyUtil.POST_COMMENT_COUNT)
+        );
+    }
 
-                post.gettingHot();
-                postRepository.save(post);
-            }
+    private Long parseCount(Map<?, ?> counts, String field) {
+        Object value = counts == null ? null : counts.get(field);
+
+        if (value == null) {
+            return 0L;
+        }
 
-            return nowVote;
+        try {
+            return Long.parseLong(value.toString());
         } catch (NumberFormatException e) {
             throw new ApiException(ErrorCode.VOTE_COUNT_PARSE_FAILED);
         }
     }
 
+    @Transactional
+    @Override
+    public String increasePostVoteCount(Long pId, String userEmail) {
 
+        List<Long> counts = vote(pId, userEmail, VOTE_UP);
+        Long nowVote = counts.get(1);
+
+        // 같은 추천을 반복한 경우에는 인기도 점수를 갱신하지 않음
+        if (counts.get(0) == 1L) {
+            hotPostService.updateHotness(pId, nowVote);
+        }
+
+        return String.valueOf(nowVote);
+    }
+
+    @Transactional
     @Override
     public String decreasePostVoteCount(Long pId, String userEmail) {
 
-        String downVoteKey = RedisKeyUtil.postDownVote(pId);
-        String userVoteKey = RedisKeyUtil.postUserCheck(pId, userEmail);
+        List<Long> counts = vote(pId, userEmail, VOTE_DOWN);
 
-        Boolean success = redisTemplate.opsForValue()
-                .setIfAbsent(userVoteKey, "1", Duration.ofHours(24));
+        // 추천을 비추천으로 바꾼 경우 줄어든 추천수로 인기도 점수를 갱신 (같은 비추천을 반복한 경우에는 갱신하지 않음)
+        if (counts.get(0) == 1L) {
+            hotPostService.updateHotness(pId, counts.get(1));
+        }
+
+        return String.valueOf(counts.get(2));
+    }
+
+    /**
+     * 게시글 추천 장부에 회원의 투표를 기록하는 메서드입니다.
+     * 장부 기록/변경과 추천/비추천 합계 갱신을 Lua 스크립트 한 번으로 처리합니다.
+     *
+     * @param pId 게시글 ID
+     * @param userEmail 회원 email 아이디
+     * @param vote 투표 값 (VOTE_UP, VOTE_DOWN)
+     * @return 갱신 후 [변경 여부(1: 변경, 0: 같은 투표), 추천수, 비추천수]를 반환합니다.
+     */
+    private List<Long> vote(Long pId, String userEmail, String vote) {
+        String mId = String.valueOf(memberService.findMemberIdByEmail(userEmail));
+
+        List<Long> counts = toVoteCounts(redisTemplate.execute(
+                RedisScriptUtil.POST_VOTE,
+                List.of(RedisKeyUtil.postVote(pId), RedisKeyUtil.postCount(pId)),
+                mId, vote, RedisKeyUtil.POST_UP_VOTE, RedisKeyUtil.POST_DOWN_VOTE
+        ));
+        if (counts.get(0) == 1L) {
+            postLivePublisher.markCountChanged(pId);
+        }
+
+        return counts;
+    }
+
+    private List<Long> toVoteCounts(List<?> counts) {
+        if (counts == null || counts.size() != 3) {
+            throw new ApiException(ErrorCode.VOTE_COUNT_PARSE_FAILED);
+        }
+
+        return counts.stream().map(count -> ((Number) count).longValue()).toList();
+    }
 
-        if (Boolean.TRUE.equals(success)) {
-            redisTemplate.opsForValue().increment(downVoteKey);
+    @Override
+    public int getMyPostVote(Long pId, String userEmail) {
+        String mId = String.valueOf(memberService.findMemberIdByEmail(userEmail));
+        Object vote = redisTemplate.opsForHash().get(RedisKeyUtil.postVote(pId), mId);
+
+        return vote == null ? 0 : Integer.parseInt(vote.toString());
+    }
+
+    @Override
+    public PostCountForm recountPostVote(Long pId) {
+        toVoteCounts(redisTemplate.execute(
+                RedisScriptUtil.POST_VOTE_RECOUNT,
+                List.of(RedisKeyUtil.postVote(pId), RedisKeyUtil.postCount(pId)),
+                RedisKeyUtil.POST_UP_VOTE, RedisKeyUtil.POST_DOWN_VOTE,
+                RedisKeyUtil.POST_LEGACY_UP_VOTE, RedisKeyUtil.POST_LEGACY_DOWN_VOTE
+        ));
+
+        return getPostCount(pId);
+    }
+
+    @Scheduled(cron = "0 0 5 * * *", zone = "Asia/Seoul")
+    @Transactional(readOnly = true)
+    @Override
+    public void reconcilePostVotes() {
+        log.info("cron reconcile post vote counts");
+
+        byte[] script = RedisScriptUtil.POST_VOTE_RECOUNT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        long lastId = 0L;
+        long recounted = 0L;
+        List<Long> pIds;
+
+        do {
+            pIds = postRepository.findIdsAfter(lastId, Limit.of(VOTE_RECOUNT_BATCH_SIZE));
+            if (pIds.isEmpty()) {
+                break;
+            }
+
+            // 게시글별 재계산 스크립트를 파이프라인으로 묶어 배치마다 Redis 왕복 한 번
+            List<Long> batch = pIds;
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                batch.forEach(pId -> connection.scriptingCommands().eval(
+                        script, ReturnType.MULTI, 2,
+                        bytes(RedisKeyUtil.postVote(pId)),
+                        bytes(RedisKeyUtil.postCount(pId)),
+                        bytes(RedisKeyUtil.POST_UP_VOTE),
+                        bytes(RedisKeyUtil.POST_DOWN_VOTE),
+                        bytes(RedisKeyUtil.POST_LEGACY_UP_VOTE),
+                        bytes(RedisKeyUtil.POST_LEGACY_DOWN_VOTE)));
+                return null;
+            });
+
+            recounted += results.stream()
+                    .filter(result -> result instanceof List<?> counts && !counts.isEmpty() && ((Number) counts.get(0)).longValue() == 1L)
+                    .count();
+            lastId = pIds.get(pIds.size() - 1);
+        } while (pIds.size() == VOTE_RECOUNT_BATCH_SIZE);
+
+        if (recounted > 0) {
+            log.info("recounted {} drifted post vote counts", recounted);
         }
+    }
 
-        return redisTemplate.opsForValue().get(downVoteKey);
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
     public String getIncreasePostVoteCount(Long pId) {
-        return redisTemplate.opsForValue().get(RedisKeyUtil.postUpVote(pId));
+        return (String) redisTemplate.opsForHash().get(RedisKeyUtil.postCount(pId), RedisKeyUtil.POST_UP_VOTE);
     }
 
     @Override
     public String getDecreasePostVoteCount(Long pId) {
-        return redisTemplate.opsForValue().get(RedisKeyUtil.postDownVote(pId));
-    }
-
-
-//    /**
-//     * 회원의 게시글 조회 여부를 초기화하는 함수.
-//     * 1000개 단위로 불러와서, 100개씩 한 번에 삭제하는 batch 처리.
-//     */
-//    @Override
-//    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul") // 매일 자정에 실행
-//    public void resetPostView() {
-//        log.info("cron reset post userViewChk");
-//
-//        ScanOptions scanOptions = ScanOptions.scanOptions()
-//                .match("post:userView:*")
-//                .count(1000)
-//                .build();
-//
-//        Cursor<byte[]> keys = redisTemplate.getConnectionFactory().getConnection().scan(scanOptions);
-//
-//        // 1000개씩 읽어서, 100번 읽으면 반영. 그 전에 이미 다 읽으면 그 값을 전부 반영.
-//        List<String> batchKeys = new ArrayList<>();
-//        while(keys.hasNext()) {
-//            batchKeys.add(new String(keys.next()));
-//            if (batchKeys.size() >= 100) {
-//                redisTemplate.delete(batchKeys);
-//                batchKeys.clear();
-//            }
-//        }
-//
-//        if (!batchKeys.isEmpty()) {
-//            redisTemplate.delete(batchKeys);
-//        }
-//    }
-}
\ No newline at end of file
+        return (String) redisTemplate.opsForHash().get(RedisKeyUtil.postCount(pId), RedisKeyUtil.POST_DOWN_VOTE);
+    }
+}
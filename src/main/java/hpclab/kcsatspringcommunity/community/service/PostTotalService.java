@@ -0,0 +1,51 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+
+/**
+ * 게시판 페이지의 전체 게시글 수를 COUNT 쿼리 없이 제공하는 기능을 정의한 인터페이스입니다.
+ * 전체/문제 유형별 게시글 수는 Redis 카운터로 관리하고, 제목 검색 결과 수는 짧은 시간 동안 캐싱합니다.
+ * 인기 게시판 게시글 수는 Redis 인기 게시판 크기(ZCARD)를 사용합니다. (HotPostService 참조)
+ */
+public interface PostTotalService {
+
+    /**
+     * 전체 또는 문제 유형별 게시글 수를 조회하는 메서드입니다.
+     * 카운터가 아직 없다면 DB에서 한 번 세어 초기화합니다.
+     *
+     * @param type 문제 유형 (null이라면 전체 게시글)
+     * @return 게시글 수를 반환합니다.
+     */
+    long getPostTotal(QuestionType type);
+
+    /**
+     * 게시글이 작성되었을 때 게시글 수 카운터를 1 증가시키는 메서드입니다.
+     *
+     * @param type 게시글에 첨부된 문제 유형 (없다면 null)
+     */
+    void increasePostTotal(QuestionType type);
+
+    /**
+     * 게시글이 삭제되었을 때 게시글 수 카운터를 1 감소시키는 메서드입니다.
+     *
+     * @param type 게시글에 첨부된 문제 유형 (없다면 null)
+     */
+    void decreasePostTotal(QuestionType type);
+
+    /**
+     * 제목 검색 결과 게시글 수를 조회하는 메서드입니다.
+     * 캐시가 없을 때만 DB에서 세고, 결과는 짧은 시간 동안 캐싱합니다. (캐시 유지 시간 동안은 근사값)
+     *
+     * @param keyword 제목 검색어
+     * @param type 문제 유형 (optional)
+     * @param hotOnly 인기 게시글만 셀지 여부
+     * @return 검색 결과 게시글 수를 반환합니다.
+     */
+    long getSearchTotal(String keyword, QuestionType type, boolean hotOnly);
+
+    /**
+     * DB 기준으로 게시글 수 카운터를 다시 맞추는 메서드입니다.
+     * 롤백 등으로 생길 수 있는 오차를 보정하기 위해 주기적으로 실행됩니다.
+     */
+    void reconcilePostTotals();
+}
@@ -0,0 +1,159 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.community.repository.PostRepository;
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import hpclab.kcsatspringcommunity.redis.RedisScriptUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 게시판 전체 게시글 수 관리 로직을 구현한 클래스입니다.
+ *
+ * <p>전체/문제 유형별 게시글 수는 하나의 Redis Hash(post:total)에 보관하며, 게시글 작성/삭제 시 증감합니다.
+ * 증감은 이미 초기화된 필드에만 적용하여, 초기화 전 증감분만으로 잘못된 값이 만들어지지 않도록 합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostTotalServiceImpl implements PostTotalService {
+
+    private final PostRepository postRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 제목 검색 결과 수 캐시 유지 시간
+     */
+    @Value("${community.post.search-total-ttl-seconds:60}")
+    private long searchTotalTtlSeconds;
+
+    private static final String BOARD_ALL = "all";
+    private static final String BOARD_HOT = "hot";
+
+    @Transactional(readOnly = true)
+    @Override
+    public long getPostTotal(QuestionType type) {
+        String field = totalField(type);
+
+        Object total = redisTemplate.opsForHash().get(RedisKeyUtil.postTotal(), field);
+        if (total == null) {
+            // 카운터가 없다면 DB 값으로 초기화 (이미 다른 요청이 초기화했다면 유지)
+            writePostTotals(countPostTotals(), false);
+            total = redisTemplate.opsForHash().get(RedisKeyUtil.postTotal(), field);
+        }
+
+        return total == null ? 0L : Long.parseLong(total.toString());
+    }
+
+    @Override
+    public void increasePostTotal(QuestionType type) {
+        updatePostTotal(type, 1);
+    }
+
+    @Override
+    public void decreasePostTotal(QuestionType type) {
+        updatePostTotal(type, -1);
+    }
+
+    private void updatePostTotal(QuestionType type, long delta) {
+        if (type == null) {
+            redisTemplate.execute(RedisScriptUtil.HASH_INCREMENT_IF_EXISTS, List.of(RedisKeyUtil.postTotal()),
+                    String.valueOf(delta), RedisKeyUtil.POST_TOTAL_ALL);
+        }
+        else {
+            redisTemplate.execute(RedisScriptUtil.HASH_INCREMENT_IF_EXISTS, List.of(RedisKeyUtil.postTotal()),
+                    String.valueOf(delta), RedisKeyUtil.POST_TOTAL_ALL, type.name());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public long getSearchTotal(String keyword, QuestionType type, boolean hotOnly) {
+        // 제목 검색은 대소문자를 구분하지 않으므로 소문자 검색어로 캐싱
+        String cacheKey = RedisKeyUtil.postSearchTotal(hotOnly ? BOARD_HOT : BOARD_ALL, type, keyword.toLowerCase(Locale.ROOT));
+
+        String cached = redisTemplate.opsForValue().get(cacheKey);
+        if (cached != null) {
+            return Long.parseLong(cached);
+        }
+
+        long total = postRepository.countPostsByQuestionTypeAndTitle(keyword, type, hotOnly);
+        redisTemplate.opsForValue().set(cacheKey, String.valueOf(total), Duration.ofSeconds(searchTotalTtlSeconds));
+
+        return total;
+    }
+
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    @Transactional(readOnly = true)
+    @Override
+    public void reconcilePostTotals() {
+        log.info("cron reconcile post totals");
+
+        writePostTotals(countPostTotals(), true);
+    }
+
+    /**
+     * DB에서 문제 유형별 게시글 수를 한 번의 GROUP BY 쿼리로 세어, 카운터 Hash 필드별 값으로 만듭니다.
+     */
+    private Map<String, String> countPostTotals() {
+        Map<String, Long> totals = new HashMap<>();
+        totals.put(RedisKeyUtil.POST_TOTAL_ALL, 0L);
+        for (QuestionType type : QuestionType.values()) {
+            totals.put(type.name(), 0L);
+        }
+
+        for (Object[] row : postRepository.countGroupByQuestionType()) {
+            long count = ((Number) row[1]).longValue();
+
+            totals.merge(RedisKeyUtil.POST_TOTAL_ALL, count, Long::sum);
+            if (row[0] != null) {
+                totals.merge(((QuestionType) row[0]).name(), count, Long::sum);
+            }
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        totals.forEach((field, count) -> fields.put(field, String.valueOf(count)));
+        return fields;
+    }
+
+    /**
+     * 카운터 Hash에 게시글 수를 기록합니다.
+     *
+     * @param overwrite false라면 비어있는 필드만 채웁니다. (HSETNX)
+     */
+    private void writePostTotals(Map<String, String> totals, boolean overwrite) {
+        if (overwrite) {
+            redisTemplate.opsForHash().putAll(RedisKeyUtil.postTotal(), totals);
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                totals.forEach((field, count) -> ops.opsForHash().putIfAbsent(RedisKeyUtil.postTotal(), field, count));
+                return null;
+            }
+        });
+    }
+
+    private String totalField(QuestionType type) {
+        return type == null ? RedisKeyUtil.POST_TOTAL_ALL : type.name();
+    }
+}
@@ -0,0 +1,198 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import hpclab.kcsatspringcommunity.redis.RedisScriptUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회 기록을 서버 메모리에 모아두었다가, 일정 주기마다 Redis에 한 번에 반영하는 클래스입니다. (write-behind)
+ * 조회 요청마다 Redis를 호출하지 않고, 인기 게시글에 조회가 몰려도 게시글 키가 있는 슬롯에는 주기당 한 번의 스크립트만 전달되므로
+ * hot key 부하를 줄일 수 있습니다. 아직 반영되지 않은 조회 기록은 서버 종료 시 마지막으로 반영합니다.
+ *
+ * <p>중복 조회 체크도 반영 시점에 함께 처리합니다. 게시글, 날짜별로 조회한 회원 ID를 모아두고,
+ * 반영할 때 일별 조회 회원 Set에 한 번에 추가(SADD)하여 새로 추가된 회원 수만큼만 조회수를 증가시킵니다.
+ * 같은 주기 안의 반복 조회는 서버 메모리에서 먼저 걸러집니다.
+ * 이미 추가된 회원은 다시 세지 않으므로, 파이프라인이 일부만 반영된 채 실패하여 같은 배치를 다시 보내도 두 번 반영되지 않습니다.
+ * 실패한 배치가 모두 반영되기 전까지 새 조회 기록은 버퍼에 계속 쌓입니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountBuffer {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 게시글 ID별 아직 배치에 담기지 않은 조회 기록입니다.
+     */
+    private final Map<Long, PostViews> buffer = new ConcurrentHashMap<>();
+
+    /**
+     * Redis 반영 중이거나 반영에 실패하여 다시 보낼 배치입니다.
+     */
+    private volatile Map<Long, PostViews> flushing = Map.of();
+
+    /**
+     * 스크립트 한 번에 넘기는 최대 회원 수 (Lua 스크립트 인자 수 제한)
+     */
+    private static final int MAX_MEMBERS_PER_SCRIPT = 1000;
+
+    /**
+     * 게시글 하나의 반영 대기 중인 조회 기록입니다.
+     *
+     * <p>조회 기록은 잠금 없이 쌓습니다. (게시글 묶음은 computeIfAbsent로 한 번만 만들고, 회원 추가와 개수 증가는 각각 동시 자료구조 사용)
+     * 배치로 옮겨진 묶음은 닫아두고, 닫힌 묶음에 기록한 요청은 새 묶음에 다시 기록하여 옮기는 도중 들어온 조회 기록도 잃어버리지 않습니다.</p>
+     */
+    private static class PostViews {
+
+        /**
+         * 일별 조회 회원 Set 키 -> 조회한 회원 ID 목록
+         */
+        private final Map<String, Set<String>> viewers = new ConcurrentHashMap<>();
+
+        /**
+         * 화면에 미리 더해 보여줄 조회수 (다른 서버에서 이미 조회한 회원이라면 반영 시 세지 않으므로, 실제 증가분보다 클 수 있음)
+         */
+        private final LongAdder count = new LongAdder();
+
+        private volatile boolean closed = false;
+    }
+
+    /**
+     * 게시글 조회 기록을 쌓는 메서드입니다.
+     *
+     * @param pId 게시글 ID
+     * @param viewedKey 조회한 날짜의 일별 조회 회원 Set 키
+     * @param mId 회원 ID
+     */
+    public void increase(Long pId, String viewedKey, String mId) {
+        while (true) {
+            PostViews views = buffer.computeIfAbsent(pId, key -> new PostViews());
+            boolean added = views.viewers.computeIfAbsent(viewedKey, key -> ConcurrentHashMap.newKeySet()).add(mId);
+
+            if (!views.closed) {
+                if (added) {
+                    views.count.increment();
+                }
+                return;
+            }
+            // 배치로 옮겨진 묶음이라면 새 묶음에 다시 기록 (옮겨진 묶음에도 담겼다면 Redis SADD에서 한 번만 세어짐)
+        }
+    }
+
+    /**
+     * 삭제된 게시글의 아직 배치에 담기지 않은 조회 기록을 버리는 메서드입니다.
+     * 삭제 후 반영되어 카운터 Hash가 다시 만들어지지 않도록 하기 위함입니다.
+     *
+     * @param pId 게시글 ID
+     */
+    public void discard(Long pId) {
+        PostViews views = buffer.remove(pId);
+        if (views != null) {
+            views.closed = true;
+        }
+    }
+
+    /**
+     * 아직 Redis에 반영되지 않은 조회수 증가분을 조회하는 메서드입니다.
+     *
+     * @param pId 게시글 ID
+     * @return 반영 대기 중인 조회수를 반환합니다.
+     */
+    public long getPending(Long pId) {
+        return pendingCount(buffer.get(pId)) + pendingCount(flushing.get(pId));
+    }
+
+    private long pendingCount(PostViews views) {
+        return views == null ? 0L : views.count.sum();
+    }
+
+    /**
+     * 쌓인 조회 기록을 Redis 파이프라인 한 번으로 반영하는 메서드입니다.
+     * 이전 배치가 반영에 실패했다면, 새 조회 기록을 담지 않고 이전 배치를 다시 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${community.post.view-count.flush-interval-ms:300}")
+    public synchronized void flush() {
+        if (flushing.isEmpty()) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+
+            Map<Long, PostViews> batch = new ConcurrentHashMap<>();
+            flushing = batch;
+
+            buffer.keySet().forEach(pId -> {
+                PostViews views = buffer.remove(pId);
+                if (views != null) {
+                    // 닫은 뒤에 회원 목록을 읽으므로, 닫히기 전에 기록된 회원은 모두 이번 배치에 포함됨
+                    views.closed = true;
+                    batch.put(pId, views);
+                }
+            });
+        }
+
+        try {
+            apply(flushing);
+            flushing = Map.of();
+        } catch (RuntimeException e) {
+            // 반영에 실패한 배치는 다음 주기에 다시 반영 (이미 추가된 회원은 스크립트에서 다시 세지 않음)
+            log.warn("post view count flush failed, retry next time: {}", e.getMessage());
+        }
+    }
+
+    private void apply(Map<Long, PostViews> batch) {
+        byte[] script = bytes(RedisScriptUtil.VIEWERS_HASH_INCREMENT.getScriptAsString());
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            batch.forEach((pId, views) -> views.viewers.forEach((viewedKey, members) -> {
+                List<String> memberList = new ArrayList<>(members);
+
+                for (int from = 0; from < memberList.size(); from += MAX_MEMBERS_PER_SCRIPT) {
+                    List<String> chunk = memberList.subList(from, Math.min(from + MAX_MEMBERS_PER_SCRIPT, memberList.size()));
+
+                    byte[][] keysAndArgs = new byte[4 + chunk.size()][];
+                    keysAndArgs[0] = bytes(viewedKey);
+                    keysAndArgs[1] = bytes(RedisKeyUtil.postCount(pId));
+                    keysAndArgs[2] = bytes(RedisKeyUtil.POST_VIEW_COUNT);
+                    keysAndArgs[3] = bytes(PostServiceImpl.VIEWED_MEMBERS_TTL_SECONDS);
+                    for (int i = 0; i < chunk.size(); i++) {
+                        keysAndArgs[4 + i] = bytes(chunk.get(i));
+                    }
+
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2, keysAndArgs);
+                }
+            }));
+            return null;
+        });
+    }
+
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 서버 종료 시 남은 조회 기록을 반영합니다.
+     * 실패했던 배치가 남아있다면 먼저 반영한 뒤, 버퍼에 남은 조회 기록을 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("flush buffered post view counts before shutdown");
+        flush();
+        flush();
+    }
+}
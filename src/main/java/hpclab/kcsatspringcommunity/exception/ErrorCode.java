@@ -28,7 +28,9 @@ public enum ErrorCode {
     VOTE_COUNT_PARSE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "E013", "추천 수 파싱 오류입니다."),
     SIGNUP_IN_PROGRESS(HttpStatus.CONFLICT, "E014", "이미 가입 요청이 처리 중입니다."),
 
-    ALREADY_SAVED_QUESTION(HttpStatus.CONFLICT, "E015", "이미 저장된 문제입니다.");
+    ALREADY_SAVED_QUESTION(HttpStatus.CONFLICT, "E015", "이미 저장된 문제입니다."),
+
+    SEARCH_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "E016", "검색 처리 중 오류가 발생했습니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,44 @@
+package hpclab.kcsatspringcommunity.live.controller;
+
+import hpclab.kcsatspringcommunity.live.service.PostLiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * <p>게시글 실시간 알림 컨트롤러 클래스입니다.</p>
+ *
+ * <p>기능 목록</p>
+ * <ul>
+ *     <li>게시글 실시간 구독 (새 댓글, 댓글 삭제, 추천/비추천수 변경)</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/community/board")
+@RequiredArgsConstructor
+public class PostLiveController {
+
+    private final PostLiveService postLiveService;
+
+    /**
+     * 회원 커뮤니티 게시글 활동을 Server-Sent Events로 구독하는 메서드입니다.
+     * 댓글, 추천수를 폴링하는 대신 이 연결 하나로 변경 사항을 전달받습니다.
+     *
+     * <ul>
+     *     <li>comment: 새 댓글 (댓글 정보 JSON)</li>
+     *     <li>commentDelete: 삭제된 댓글 ID</li>
+     *     <li>count: 게시글 추천/비추천/댓글 수와 바뀐 댓글 추천/비추천수 (최대 0.5초에 한 번)</li>
+     * </ul>
+     *
+     * @param pId 게시글 ID
+     * @return 게시글 이벤트 스트림을 반환합니다.
+     */
+    @GetMapping(value = "/post/{pId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable Long pId) {
+        return postLiveService.subscribe(pId);
+    }
+}
@@ -0,0 +1,41 @@
+package hpclab.kcsatspringcommunity.live.dto;
+
+import hpclab.kcsatspringcommunity.community.dto.CommentCountForm;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * 게시글 실시간 구독자에게 보내는 카운터 갱신 DTO 클래스입니다.
+ * 짧은 주기 동안 바뀐 카운터를 모아서 한 번에 보내며, 증감분이 아닌 현재 값을 담으므로 일부 메시지가 유실되어도 다음 메시지로 맞춰집니다.
+ */
+@Data
+@AllArgsConstructor
+public class PostLiveCountForm {
+
+    /**
+     * 게시글 ID
+     */
+    private Long pId;
+
+    /**
+     * 게시글 추천수
+     */
+    private Long upVoteCount;
+
+    /**
+     * 게시글 비추천수
+     */
+    private Long downVoteCount;
+
+    /**
+     * 게시글 댓글 수 (카운터가 아직 없다면 null)
+     */
+    private Long commentCount;
+
+    /**
+     * 이번 주기에 추천/비추천수가 바뀐 댓글 ID별 추천/비추천수
+     */
+    private Map<Long, CommentCountForm> commentCounts;
+}
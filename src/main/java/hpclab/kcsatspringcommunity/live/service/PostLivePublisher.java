@@ -0,0 +1,156 @@
+package hpclab.kcsatspringcommunity.live.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hpclab.kcsatspringcommunity.community.dto.CommentResponseForm;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 활동(댓글 작성/삭제, 추천/비추천)을 실시간 구독자에게 알리기 위해 Redis Pub/Sub 채널로 발행하는 클래스입니다.
+ *
+ * <p>댓글 작성/삭제는 트랜잭션 커밋 후 바로 발행합니다.
+ * 추천/비추천처럼 자주 바뀌는 카운터는 바뀐 게시글, 댓글 ID만 서버 메모리에 모아두고,
+ * 일정 주기마다 현재 값을 한 번에 발행합니다. (PostLiveService 참조)</p>
+ *
+ * <p>게시글, 댓글 서비스가 이 클래스만 의존하도록 하여, 카운터를 조회하는 PostLiveService와 순환 참조가 생기지 않도록 합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLivePublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 실시간 알림 이벤트 이름
+     */
+    public static final String EVENT_COMMENT = "comment";
+    public static final String EVENT_COMMENT_DELETE = "commentDelete";
+    public static final String EVENT_COUNT = "count";
+
+    /**
+     * 카운터가 바뀐 게시글 ID -> 추천/비추천수가 바뀐 댓글 ID 목록 (게시글 카운터만 바뀌었다면 빈 목록)
+     */
+    private final Map<Long, Set<Long>> changed = new ConcurrentHashMap<>();
+
+    /**
+     * 새 댓글을 게시글 구독자에게 발행하는 메서드입니다.
+     *
+     * @param pId 게시글 ID
+     * @param comment 작성된 댓글 정보
+     */
+    public void publishComment(Long pId, CommentResponseForm comment) {
+        String message = toJson(comment);
+        afterCommit(() -> publish(pId, EVENT_COMMENT, message));
+        markCountChanged(pId);
+    }
+
+    /**
+     * 삭제된 댓글 ID를 게시글 구독자에게 발행하는 메서드입니다.
+     *
+     * @param pId 게시글 ID
+     * @param cId 삭제된 댓글 ID
+     */
+    public void publishCommentDelete(Long pId, Long cId) {
+        afterCommit(() -> publish(pId, EVENT_COMMENT_DELETE, String.valueOf(cId)));
+        markCountChanged(pId);
+    }
+
+    /**
+     * 게시글 카운터(추천수, 비추천수, 댓글 수)가 바뀌었음을 기록하는 메서드입니다.
+     * 트랜잭션 안에서 호출된 경우 커밋된 후에 기록하여, 롤백된 변경이 구독자에게 발행되지 않도록 합니다.
+     *
+     * @param pId 게시글 ID
+     */
+    public void markCountChanged(Long pId) {
+        afterCommit(() -> changed.computeIfAbsent(pId, key -> ConcurrentHashMap.newKeySet()));
+    }
+
+    /**
+     * 댓글 추천/비추천수가 바뀌었음을 기록하는 메서드입니다.
+     *
+     * @param pId 댓글이 달린 게시글 ID
+     * @param cId 댓글 ID
+     */
+    public void markCommentCountChanged(Long pId, Long cId) {
+        // 기록과 꺼내기(drainChanged)가 겹쳐도 댓글 ID가 유실되지 않도록 compute 안에서 추가
+        changed.compute(pId, (key, cIds) -> {
+            Set<Long> result = cIds == null ? ConcurrentHashMap.newKeySet() : cIds;
+            result.add(cId);
+            return result;
+        });
+    }
+
+    /**
+     * 지금까지 기록된 카운터 변경 내역을 꺼내고 비우는 메서드입니다.
+     *
+     * @return 게시글 ID -> 추천/비추천수가 바뀐 댓글 ID 목록을 반환합니다.
+     */
+    public Map<Long, Set<Long>> drainChanged() {
+        Map<Long, Set<Long>> drained = new HashMap<>();
+
+        for (Long pId : new HashSet<>(changed.keySet())) {
+            Set<Long> cIds = changed.remove(pId);
+            if (cIds != null) {
+                drained.put(pId, cIds);
+            }
+        }
+
+        return drained;
+    }
+
+    /**
+     * 게시글 채널로 메시지를 발행하는 메서드입니다. 모든 서버의 구독자에게 전달됩니다.
+     *
+     * @param pId 게시글 ID
+     * @param event 이벤트 이름
+     * @param message 메시지 (JSON)
+     */
+    public void publish(Long pId, String event, String message) {
+        try {
+            redisTemplate.convertAndSend(RedisKeyUtil.postLiveChannel(pId, event), message);
+        } catch (RuntimeException e) {
+            // 실시간 알림 실패로 요청 자체를 실패시키지 않음
+            log.warn("post live publish failed: {}", e.getMessage());
+        }
+    }
+
+    public String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후에 실행합니다. 롤백된 댓글, 카운터 변경이 구독자에게 전달되지 않도록 하기 위함입니다.
+     */
+    private void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        }
+        else {
+            runnable.run();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package hpclab.kcsatspringcommunity.live.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 게시글 실시간 구독(Server-Sent Events) 기능을 정의한 인터페이스입니다.
+ * 구독자는 새 댓글, 댓글 삭제, 추천/비추천수 변경을 폴링 없이 전달받습니다.
+ */
+public interface PostLiveService {
+
+    /**
+     * 게시글 실시간 알림을 구독하는 메서드입니다.
+     *
+     * @param pId 게시글 ID
+     * @return 게시글 이벤트를 전달할 SseEmitter 객체를 반환합니다.
+     */
+    SseEmitter subscribe(Long pId);
+
+    /**
+     * 이번 주기에 바뀐 게시글, 댓글 카운터의 현재 값을 게시글 채널로 발행하는 메서드입니다.
+     * 짧은 주기로 실행되어, 추천이 몰려도 게시글마다 주기당 한 번만 발행합니다.
+     */
+    void publishChangedCounts();
+
+    /**
+     * 이 서버에 연결된 구독자들에게 연결 유지용 빈 이벤트를 보내는 메서드입니다.
+     * 프록시 등에서 유휴 연결이 끊기지 않도록 하고, 이미 끊긴 연결을 정리합니다.
+     */
+    void sendHeartbeat();
+}
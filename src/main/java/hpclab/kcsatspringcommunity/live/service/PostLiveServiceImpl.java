@@ -0,0 +1,306 @@
+package hpclab.kcsatspringcommunity.live.service;
+
+import hpclab.kcsatspringcommunity.community.dto.CommentCountForm;
+import hpclab.kcsatspringcommunity.community.dto.PostCountForm;
+import hpclab.kcsatspringcommunity.community.service.CommentService;
+import hpclab.kcsatspringcommunity.community.service.PostService;
+import hpclab.kcsatspringcommunity.live.dto.PostLiveCountForm;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 실시간 구독 로직을 구현한 클래스입니다.
+ *
+ * <p>구독 연결(SseEmitter)은 서버마다 메모리에 게시글 ID별로 보관합니다.
+ * 서버는 구독 연결이 있는 게시글의 채널 패턴(post:live:{게시글 ID}:*)만 구독하므로,
+ * 어느 서버에서 발행한 이벤트든 해당 게시글을 구독 중인 연결이 있는 서버에만 전달됩니다.
+ * 게시글의 첫 구독 연결이 생길 때 채널을 구독하고, 마지막 연결이 끊기면 구독을 해제합니다.
+ * 채널 구독/해제는 Redis를 호출하므로 구독자 목록 갱신(ConcurrentHashMap.compute) 밖에서, 게시글 ID별 잠금(striping) 안에서 현재 구독자 목록 기준으로 맞춥니다.</p>
+ *
+ * <p>구독 연결로 쓰는 작업은 postLiveExecutor 스레드 풀에서 실행하여, 느린 연결 때문에 Redis 메시지 수신 스레드가 막히지 않도록 합니다.
+ * 게시글마다 전달 대기열을 두고 한 번에 하나의 작업만 대기열을 비우므로, 같은 게시글의 이벤트는 발행된 순서대로 전달됩니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLiveServiceImpl implements PostLiveService, MessageListener {
+
+    private final PostService postService;
+
+    private final CommentService commentService;
+
+    private final PostLivePublisher postLivePublisher;
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Qualifier("postLiveExecutor")
+    private final ThreadPoolTaskExecutor postLiveExecutor;
+
+    /**
+     * 구독 연결 유지 시간 (밀리초)
+     */
+    @Value("${community.live.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    /**
+     * 게시글 하나의 전달 대기열 최대 이벤트 수 (넘으면 새 이벤트를 버림)
+     */
+    private static final int MAX_PENDING_EVENTS = 100;
+
+    /**
+     * 채널 구독/해제 잠금 수 (게시글 ID로 나누어 사용)
+     */
+    private static final int SUBSCRIPTION_LOCK_STRIPES = 64;
+
+    /**
+     * 게시글 ID별 이 서버에 연결된 구독자 목록
+     */
+    private final Map<Long, PostSubscribers> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 채널을 구독 중인 게시글 ID 목록 (구독/해제는 게시글 ID별 잠금 안에서만 변경)
+     */
+    private final Set<Long> subscribed = ConcurrentHashMap.newKeySet();
+
+    private final Object[] subscriptionLocks = createSubscriptionLocks();
+
+    /**
+     * 게시글 하나의 구독자 목록과 전달 대기열입니다.
+     * draining을 얻은 작업 하나만 대기열을 비우므로 같은 게시글의 이벤트는 순서대로 전달됩니다.
+     */
+    private static class PostSubscribers {
+
+        private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+
+        private final Queue<Supplier<SseEmitter.SseEventBuilder>> events = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+    }
+
+    private static Object[] createSubscriptionLocks() {
+        Object[] locks = new Object[SUBSCRIPTION_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    @Override
+    public SseEmitter subscribe(Long pId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+
+        // compute 안에서는 구독자 목록만 갱신하고, 첫 구독자라면 밖에서 채널을 구독
+        boolean[] first = {false};
+        subscribers.compute(pId, (key, postSubscribers) -> {
+            PostSubscribers result = postSubscribers;
+            if (result == null) {
+                result = new PostSubscribers();
+                first[0] = true;
+            }
+            result.emitters.add(emitter);
+            return result;
+        });
+        if (first[0]) {
+            syncSubscription(pId);
+        }
+
+        emitter.onCompletion(() -> removeEmitter(pId, emitter));
+        emitter.onTimeout(() -> removeEmitter(pId, emitter));
+        emitter.onError(e -> removeEmitter(pId, emitter));
+
+        // 연결 직후 응답 헤더가 바로 전달되도록 빈 이벤트를 한 번 보냄
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            removeEmitter(pId, emitter);
+        }
+
+        return emitter;
+    }
+
+    private void removeEmitter(Long pId, SseEmitter emitter) {
+        // compute 안에서는 구독자 목록만 갱신하고, 마지막 구독자였다면 밖에서 채널 구독을 해제
+        boolean[] last = {false};
+        subscribers.computeIfPresent(pId, (key, postSubscribers) -> {
+            postSubscribers.emitters.remove(emitter);
+            if (!postSubscribers.emitters.isEmpty()) {
+                return postSubscribers;
+            }
+
+            last[0] = true;
+            return null;
+        });
+        if (last[0]) {
+            syncSubscription(pId);
+        }
+    }
+
+    /**
+     * 채널 구독 상태를 현재 구독자 목록에 맞춥니다.
+     * 첫 구독과 마지막 해제가 겹쳐 Redis 호출 순서가 뒤바뀌어도, 나중에 잠금을 얻은 쪽이 그때의 구독자 목록 기준으로 다시 맞추므로
+     * 구독자가 있는데 채널 구독이 해제된 상태로 남지 않습니다.
+     */
+    private void syncSubscription(Long pId) {
+        synchronized (subscriptionLocks[Math.floorMod(pId.hashCode(), SUBSCRIPTION_LOCK_STRIPES)]) {
+            PatternTopic topic = new PatternTopic(RedisKeyUtil.postLiveChannelPattern(pId));
+            boolean wanted = subscribers.containsKey(pId);
+
+            if (wanted && subscribed.add(pId)) {
+                redisMessageListenerContainer.addMessageListener(this, topic);
+            }
+            else if (!wanted && subscribed.remove(pId)) {
+                redisMessageListenerContainer.removeMessageListener(this, topic);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${community.live.count-interval-ms:500}")
+    @Override
+    public void publishChangedCounts() {
+        Map<Long, Set<Long>> changed = postLivePublisher.drainChanged();
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 바뀐 게시글, 댓글 카운터를 각각 파이프라인 한 번으로 조회
+            List<Long> pIds = new ArrayList<>(changed.keySet());
+            List<Long> cIds = new ArrayList<>();
+            changed.values().forEach(cIds::addAll);
+
+            Map<Long, PostCountForm> postCounts = postService.getPostCounts(pIds);
+            Map<Long, CommentCountForm> commentCounts = commentService.getCommentCounts(cIds);
+
+            changed.forEach((pId, changedCIds) -> {
+                PostCountForm postCount = postCounts.get(pId);
+
+                Map<Long, CommentCountForm> changedCommentCounts = new HashMap<>();
+                changedCIds.forEach(cId -> changedCommentCounts.put(cId, commentCounts.get(cId)));
+
+                postLivePublisher.publish(pId, PostLivePublisher.EVENT_COUNT, postLivePublisher.toJson(new PostLiveCountForm(
+                        pId,
+                        postCount.getUpVoteCount(),
+                        postCount.getDownVoteCount(),
+                        postCount.getCommentCount(),
+                        changedCommentCounts
+                )));
+            });
+        } catch (RuntimeException e) {
+            // 카운터는 현재 값을 보내므로, 실패한 주기는 다음 변경 때 함께 맞춰짐
+            log.warn("post live count publish failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${community.live.heartbeat-interval-ms:30000}")
+    @Override
+    public void sendHeartbeat() {
+        subscribers.forEach((pId, postSubscribers) ->
+                sendAsync(pId, postSubscribers, () -> SseEmitter.event().comment("ping")));
+    }
+
+    /**
+     * 게시글 채널로 발행된 이벤트를 이 서버의 구독자들에게 전달합니다.
+     * 채널 이름은 post:live:{게시글 ID}:{이벤트 이름} 형식이고, 메시지는 이벤트 데이터(JSON)입니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] channel = new String(message.getChannel(), StandardCharsets.UTF_8).split(":");
+        if (channel.length != 4) {
+            return;
+        }
+
+        Long pId;
+        try {
+            pId = Long.parseLong(channel[2]);
+        } catch (NumberFormatException e) {
+            return;
+        }
+
+        PostSubscribers postSubscribers = subscribers.get(pId);
+        if (postSubscribers == null) {
+            return;
+        }
+
+        String data = new String(message.getBody(), StandardCharsets.UTF_8);
+        sendAsync(pId, postSubscribers, () -> SseEmitter.event().name(channel[3]).data(data));
+    }
+
+    /**
+     * 게시글 전달 대기열에 이벤트를 넣고, 대기열을 비우는 작업이 없다면 스레드 풀에 넘깁니다.
+     * 이벤트 빌더는 연결마다 새로 만들어야 하므로 Supplier로 받습니다.
+     */
+    private void sendAsync(Long pId, PostSubscribers postSubscribers, Supplier<SseEmitter.SseEventBuilder> event) {
+        if (postSubscribers.pending.incrementAndGet() > MAX_PENDING_EVENTS) {
+            // 전달이 밀린 상태에서는 이벤트를 버림 (카운터는 다음 변경 때 현재 값으로 다시 전달됨)
+            postSubscribers.pending.decrementAndGet();
+            log.warn("post live send dropped: pId={}", pId);
+            return;
+        }
+        postSubscribers.events.add(event);
+
+        if (postSubscribers.draining.compareAndSet(false, true)) {
+            try {
+                postLiveExecutor.execute(() -> drain(pId, postSubscribers));
+            } catch (TaskRejectedException e) {
+                // 대기열에 쌓인 이벤트는 다음 이벤트가 들어올 때 다시 전달을 시도
+                postSubscribers.draining.set(false);
+                log.warn("post live send rejected: pId={}", pId);
+            }
+        }
+    }
+
+    /**
+     * 게시글 전달 대기열의 이벤트를 들어온 순서대로 모든 구독자에게 보냅니다.
+     * 대기열을 비운 뒤 draining을 내려놓고, 그 사이 들어온 이벤트가 있다면 다시 얻어 이어서 보냅니다.
+     */
+    private void drain(Long pId, PostSubscribers postSubscribers) {
+        do {
+            Supplier<SseEmitter.SseEventBuilder> event;
+            while ((event = postSubscribers.events.poll()) != null) {
+                postSubscribers.pending.decrementAndGet();
+                for (SseEmitter emitter : postSubscribers.emitters) {
+                    send(pId, emitter, event.get());
+                }
+            }
+            postSubscribers.draining.set(false);
+        } while (!postSubscribers.events.isEmpty() && postSubscribers.draining.compareAndSet(false, true));
+    }
+
+    private void send(Long pId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 이미 끊긴 연결은 정리
+            removeEmitter(pId, emitter);
+        }
+    }
+}
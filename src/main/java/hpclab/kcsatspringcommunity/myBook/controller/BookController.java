@@ -82,7 +82,6 @@ public class BookController {
      */
     @GetMapping
     public ResponseEntity<ApiResponse<QuestionDetailsDto>> getQuestionById(@RequestParam Long qId) {
-        Question question = questionService.getQuestion(qId);
-        return ResponseEntity.ok(new ApiResponse<>(true, new QuestionDetailsDto(question), null, null));
+        return ResponseEntity.ok(new ApiResponse<>(true, questionService.getQuestionDetails(qId), null, null));
     }
 }
\ No newline at end of file
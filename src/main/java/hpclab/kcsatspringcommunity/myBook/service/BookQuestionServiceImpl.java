@@ -7,12 +7,17 @@ import hpclab.kcsatspringcommunity.myBook.domain.Book;
 import hpclab.kcsatspringcommunity.myBook.domain.BookQuestion;
 import hpclab.kcsatspringcommunity.myBook.repository.BookQuestionRepository;
 import hpclab.kcsatspringcommunity.question.domain.Question;
+import hpclab.kcsatspringcommunity.question.dto.QuestionRankDto;
 import hpclab.kcsatspringcommunity.question.service.QuestionService;
+import hpclab.kcsatspringcommunity.questionRank.service.QuestionRankService;
+import hpclab.kcsatspringcommunity.questionRank.service.QuestionTrendService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 문제를 나만의 문제집에 저장하는 로직을 구현한 클래스입니다.
@@ -26,6 +31,8 @@ public class BookQuestionServiceImpl implements BookQuestionService {
 
     private final BookService bookService;
     private final QuestionService questionService;
+    private final QuestionTrendService questionTrendService;
+    private final QuestionRankService questionRankService;
 
     private final RedisTemplate<String, String> redisTemplate;
 
@@ -56,9 +63,34 @@ public class BookQuestionServiceImpl implements BookQuestionService {
             throw new ApiException(ErrorCode.ALREADY_SAVED_QUESTION);
         }
 
-        question.upShareCounter();
+        long shareCounter = questionService.increaseShareCounter(qId);
         bookQuestionRepository.save(new BookQuestion(book, question));
 
+        // 실시간 인기 문제 집계, 유형별 순위는 커밋 후 DB에 반영된 공유수로 갱신 (롤백된 공유가 반영되지 않도록)
+        QuestionRankDto sharedQuestion = new QuestionRankDto(qId, question.getType(), shareCounter, question.getCreatedDate());
+        afterCommit(() -> {
+            questionTrendService.recordShare(qId);
+            questionRankService.updateQuestionTypeRank(sharedQuestion);
+        });
+        questionService.evictShareCounter(qId);
+
         return book.getId();
     }
-}
\ No newline at end of file
+
+    /**
+     * 현재 트랜잭션이 커밋된 후에 실행합니다. (트랜잭션 밖이라면 바로 실행)
+     */
+    private void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        }
+        else {
+            runnable.run();
+        }
+    }
+}
@@ -74,11 +74,4 @@ public class Question extends BaseTimeEntity {
      */
     @Column(name = "question_explanation", length = 2048)
     private String explanation;
-
-    /**
-     * 문제 공유수 1 증가 메서드.
-     */
-    public void upShareCounter() {
-        shareCounter++;
-    }
 }
\ No newline at end of file
@@ -6,16 +6,21 @@ import hpclab.kcsatspringcommunity.question.domain.QuestionType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * 문제 상세 DTO 클래스입니다.
  * 각 항목 별 자세한 설명은 Question 클래스 참조.
+ * 문제 캐시(QuestionCache)에 JSON으로 저장되므로 기본 생성자가 필요합니다.
+ * 공유수는 자주 바뀌므로 캐시에 저장하지 않고, 조회할 때마다 따로 채워 넣습니다. (withShareCounter 참조)
  */
 @Data
 @Builder
 @AllArgsConstructor
+@NoArgsConstructor
 public class QuestionDetailsDto {
     private Long qId;
 
@@ -30,6 +35,8 @@ public class QuestionDetailsDto {
 
     private Long shareCounter;
 
+    private LocalDateTime createdDate;
+
     @Builder
     public QuestionDetailsDto(Question question) {
         this.qId = question.getId();
@@ -41,5 +48,16 @@ public class QuestionDetailsDto {
         this.translation = question.getTranslation();
         this.explanation = question.getExplanation();
         this.shareCounter = question.getShareCounter();
+        this.createdDate = question.getCreatedDate();
+    }
+
+    /**
+     * 캐시된 문제 상세 정보는 여러 요청이 함께 사용하므로, 공유수를 채운 복사본을 만들어 반환합니다.
+     *
+     * @param shareCounter 문제 공유수
+     * @return 공유수가 채워진 문제 상세 정보를 반환합니다.
+     */
+    public QuestionDetailsDto withShareCounter(Long shareCounter) {
+        return new QuestionDetailsDto(qId, questionType, title, mainText, choices, answer, translation, explanation, shareCounter, createdDate);
     }
 }
@@ -0,0 +1,36 @@
+package hpclab.kcsatspringcommunity.question.dto;
+
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주간 문제 랭킹 계산에 필요한 값만 담은 DTO 클래스입니다.
+ * 문제 본문, 보기 등 큰 값은 조회하지 않도록 생성자 프로젝션으로 조회합니다.
+ */
+@Data
+@AllArgsConstructor
+public class QuestionRankDto {
+
+    /**
+     * 문제 ID
+     */
+    private Long id;
+
+    /**
+     * 문제 유형
+     */
+    private QuestionType type;
+
+    /**
+     * 문제 공유수
+     */
+    private Long shareCounter;
+
+    /**
+     * 문제 생성 시간
+     */
+    private LocalDateTime createdDate;
+}
@@ -42,4 +42,14 @@ public class QuestionResponseForm {
         this.createdDate = question.getCreatedDate();
         this.shareCounter = question.getShareCounter();
     }
+
+    public QuestionResponseForm(QuestionDetailsDto question) {
+        this.qId = question.getQId();
+        this.questionType = question.getQuestionType().getKrName();
+        this.title = question.getTitle();
+        this.mainText = question.getMainText();
+        this.choices = question.getChoices();
+        this.createdDate = question.getCreatedDate();
+        this.shareCounter = question.getShareCounter();
+    }
 }
\ No newline at end of file
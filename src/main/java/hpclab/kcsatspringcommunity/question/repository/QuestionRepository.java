@@ -1,12 +1,18 @@
 package hpclab.kcsatspringcommunity.question.repository;
 
 import hpclab.kcsatspringcommunity.question.domain.Question;
+import hpclab.kcsatspringcommunity.question.dto.QuestionRankDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 문제에 대한 DB 상호작용을 하는 Spring Data JPA 인터페이스입니다.
@@ -14,13 +20,38 @@ import java.util.Optional;
 public interface QuestionRepository extends JpaRepository<Question, Long> {
 
     /**
-     * 문제 공유수가 limit 이상인 문제들만 조회하는 메서드입니다.
-     * 문제 공유수가 특정 수 이상인 인기 문제들을 선별하기 위해 사용합니다.
+     * 문제 공유수가 limit 초과인 문제들의 ID, 유형, 공유수, 생성 시간만 스트림으로 조회하는 메서드입니다.
+     * 주간 인기 문제, 문제 유형별 인기 문제를 선별하기 위해 사용합니다.
+     * 결과를 한 번에 메모리에 올리지 않고 fetch size 단위로 나누어 가져오므로, 문제 수가 늘어나도 메모리 사용량이 일정합니다.
+     * <b>트랜잭션 안에서 호출하고, 사용 후 스트림을 닫아야 합니다.</b>
      *
      * @param limit 문제 공유수에 하한을 정의한 변수
-     * @return 문제 객체를 반환합니다.
+     * @return 문제 랭킹 계산용 DTO 스트림을 반환합니다.
      */
-    List<Question> findAllByShareCounterGreaterThan(Long limit);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new hpclab.kcsatspringcommunity.question.dto.QuestionRankDto(q.id, q.type, q.shareCounter, q.createdDate) " +
+            "FROM Question q WHERE q.shareCounter > :limit")
+    Stream<QuestionRankDto> streamRankCandidates(@Param("limit") Long limit);
+
+    /**
+     * 문제 공유수만 조회하는 메서드입니다.
+     * 문제 상세 정보 캐시에 공유수를 저장하지 않으므로, 공유수 캐시가 비었을 때 사용합니다.
+     *
+     * @param qId 문제 ID
+     * @return 문제 공유수를 반환합니다.
+     */
+    @Query("SELECT q.shareCounter FROM Question q WHERE q.id = :qId")
+    Optional<Long> findShareCounterById(@Param("qId") Long qId);
+
+    /**
+     * 문제 공유수를 DB에서 원자적으로 1 증가시키고, 증가한 공유수를 조회하는 메서드입니다. (PostgreSQL UPDATE ... RETURNING)
+     * 엔티티의 공유수를 읽어 증가시키지 않으므로, 같은 문제가 동시에 공유되어도 증가분을 잃어버리지 않습니다.
+     *
+     * @param qId 문제 ID
+     * @return 증가한 공유수를 반환합니다. (문제가 없다면 null)
+     */
+    @Query(value = "UPDATE question SET share_counter = share_counter + 1 WHERE id = :qId RETURNING share_counter", nativeQuery = true)
+    Long increaseShareCounter(@Param("qId") Long qId);
 
     /**
      * 문제를 조회할 때, 문제에 속한 보기도 동시에 조회하도록 하는 메서드입니다. (N+1 방지)
@@ -30,4 +61,24 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
      */
     @Query("SELECT q FROM Question q LEFT JOIN FETCH q.choices WHERE q.id = :qId")
     Optional<Question> findWithChoicesById(@Param("qId") Long qId);
+
+    /**
+     * 여러 문제를 보기와 함께 한 번의 쿼리로 조회하는 메서드입니다. (N+1 방지)
+     * 인기 문제처럼 Redis에서 문제 ID 목록을 먼저 가져온 경우에 사용합니다.
+     *
+     * @param qIds 문제 ID 목록
+     * @return 조회한 문제 목록 (순서 보장 X)
+     */
+    @Query("SELECT DISTINCT q FROM Question q LEFT JOIN FETCH q.choices WHERE q.id IN :qIds")
+    List<Question> findAllWithChoicesByIdIn(@Param("qIds") List<Long> qIds);
+
+    /**
+     * 문제 ID가 id보다 큰 문제를 ID 순서로 limit개까지 조회하는 메서드입니다.
+     * 검색 색인을 새로 만드는 용도로, 전체 문제를 한 번에 올리지 않고 나누어 읽을 때 사용합니다.
+     *
+     * @param id 이전 배치의 마지막 문제 ID (처음이라면 0)
+     * @param limit 한 번에 조회할 문제 수
+     * @return 문제 목록 (ID 오름차순)
+     */
+    List<Question> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
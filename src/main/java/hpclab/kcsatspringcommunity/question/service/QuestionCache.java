@@ -0,0 +1,220 @@
+package hpclab.kcsatspringcommunity.question.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hpclab.kcsatspringcommunity.question.dto.QuestionDetailsDto;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 문제 상세 정보(문제 + 보기)를 2단계로 캐싱하는 클래스입니다.
+ *
+ * <ul>
+ *     <li>L1: 서버 메모리 Caffeine 캐시 (최대 개수, 유지 시간 제한)</li>
+ *     <li>L2: Redis JSON 캐시 (서버 간 공유)</li>
+ * </ul>
+ *
+ * <p>문제가 변경되면 L2를 삭제하고 Redis Pub/Sub으로 모든 서버의 L1도 삭제합니다.
+ * 자주 바뀌는 공유수는 상세 정보와 따로 Redis에 캐싱하여, 문제가 공유될 때는 공유수 캐시만 삭제합니다.
+ * L1, L2 적중/실패 수는 Micrometer 지표(question.l1.cache.*, question.l2.cache.*)로 확인할 수 있습니다.</p>
+ */
+@Slf4j
+@Component
+public class QuestionCache implements MessageListener {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Cache<Long, QuestionDetailsDto> localCache;
+
+    private final Duration redisTtl;
+
+    private final Duration shareCountTtl;
+
+    private final Counter redisHit;
+    private final Counter redisMiss;
+
+    public QuestionCache(RedisTemplate<String, String> redisTemplate,
+                         ObjectMapper objectMapper,
+                         RedisMessageListenerContainer redisMessageListenerContainer,
+                         MeterRegistry meterRegistry,
+                         @Value("${community.question.cache.local-max-size:10000}") long localMaxSize,
+                         @Value("${community.question.cache.local-ttl-seconds:600}") long localTtlSeconds,
+                         @Value("${community.question.cache.redis-ttl-seconds:86400}") long redisTtlSeconds,
+                         @Value("${community.question.cache.share-count-ttl-seconds:60}") long shareCountTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.shareCountTtl = Duration.ofSeconds(shareCountTtlSeconds);
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "question.l1");
+
+        this.redisHit = Counter.builder("question.l2.cache.gets").tag("result", "hit").register(meterRegistry);
+        this.redisMiss = Counter.builder("question.l2.cache.gets").tag("result", "miss").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.QUESTION_CACHE_EVICT_CHANNEL));
+    }
+
+    /**
+     * 문제 상세 정보를 L1 -> L2 -> loader(DB) 순서로 찾는 메서드입니다.
+     * 아래 단계에서 찾은 값은 위 단계 캐시에 채워 넣습니다.
+     *
+     * @param qId 문제 ID
+     * @param loader 캐시에 없을 때 DB에서 조회하는 함수
+     * @return 문제 상세 정보를 반환합니다.
+     */
+    public QuestionDetailsDto get(Long qId, Supplier<QuestionDetailsDto> loader) {
+        return localCache.get(qId, key -> {
+            QuestionDetailsDto cached = readRedis(key);
+            if (cached != null) {
+                redisHit.increment();
+                return cached;
+            }
+            redisMiss.increment();
+
+            QuestionDetailsDto loaded = loader.get();
+            writeRedis(key, loaded);
+            return loaded;
+        });
+    }
+
+    /**
+     * 문제 캐시를 삭제하는 메서드입니다.
+     * 트랜잭션 안에서 호출된 경우, 커밋된 후에 삭제하여 삭제 직후 이전 값이 다시 캐싱되지 않도록 합니다.
+     *
+     * @param qId 문제 ID
+     */
+    public void evict(Long qId) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.delete(RedisKeyUtil.questionCache(qId));
+                redisTemplate.convertAndSend(RedisKeyUtil.QUESTION_CACHE_EVICT_CHANNEL, String.valueOf(qId));
+            } catch (RuntimeException e) {
+                log.warn("question cache evict failed: {}", e.getMessage());
+            }
+            localCache.invalidate(qId);
+        });
+    }
+
+    /**
+     * 문제 공유수를 Redis 공유수 캐시 -> loader(DB) 순서로 찾는 메서드입니다.
+     * 공유수는 자주 바뀌므로 서버 메모리(L1)에는 두지 않습니다.
+     *
+     * @param qId 문제 ID
+     * @param loader 캐시에 없을 때 DB에서 조회하는 함수
+     * @return 문제 공유수를 반환합니다.
+     */
+    public Long getShareCounter(Long qId, Supplier<Long> loader) {
+        String key = RedisKeyUtil.questionShareCount(qId);
+
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (RuntimeException e) {
+            log.warn("question share count read failed: {}", e.getMessage());
+        }
+
+        Long loaded = loader.get();
+        try {
+            // 다른 요청이 먼저 채웠다면 덮어쓰지 않음 (공유 직전 값이 채워지더라도 짧은 유지 시간 후 다시 조회)
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(loaded), shareCountTtl);
+        } catch (RuntimeException e) {
+            log.warn("question share count write failed: {}", e.getMessage());
+        }
+        return loaded;
+    }
+
+    /**
+     * 문제 공유수 캐시만 삭제하는 메서드입니다. 문제 상세 정보(L1, L2)는 그대로 유지합니다.
+     * 트랜잭션 안에서 호출된 경우, 커밋된 후에 삭제합니다.
+     *
+     * @param qId 문제 ID
+     */
+    public void evictShareCounter(Long qId) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.delete(RedisKeyUtil.questionShareCount(qId));
+            } catch (RuntimeException e) {
+                log.warn("question share count evict failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        }
+        else {
+            runnable.run();
+        }
+    }
+
+    /**
+     * 다른 서버에서 문제 캐시를 삭제했을 때 이 서버의 L1 캐시도 삭제합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            localCache.invalidate(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("invalid question cache evict message");
+        }
+    }
+
+    private QuestionDetailsDto readRedis(Long qId) {
+        try {
+            String json = redisTemplate.opsForValue().get(RedisKeyUtil.questionCache(qId));
+            return json == null ? null : objectMapper.readValue(json, QuestionDetailsDto.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // L2 장애나 형식 변경 시에는 DB에서 다시 조회
+            log.warn("question cache read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Long qId, QuestionDetailsDto question) {
+        try {
+            redisTemplate.opsForValue().set(RedisKeyUtil.questionCache(qId), objectMapper.writeValueAsString(question), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("question cache write failed: {}", e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package hpclab.kcsatspringcommunity.question.service;
 
 import hpclab.kcsatspringcommunity.question.domain.Question;
+import hpclab.kcsatspringcommunity.question.dto.QuestionDetailsDto;
 
 /**
  * 문제 관련 로직을 정의한 인터페이스입니다.
@@ -15,6 +16,41 @@ public interface QuestionService {
      */
     Question getQuestion(Long qId);
 
+    /**
+     * 문제 ID를 이용하여 문제 상세 정보를 캐시에서 가져오는 메서드입니다.
+     * 서버 메모리(L1), Redis(L2) 캐시에 없을 때만 DB를 조회합니다. 조회 전용 화면에서 사용합니다.
+     * 공유수는 Redis 공유수 캐시에서 따로 읽어 채웁니다.
+     *
+     * @param qId 문제 ID
+     * @return 문제 상세 정보를 반환합니다.
+     */
+    QuestionDetailsDto getQuestionDetails(Long qId);
+
+    /**
+     * 문제를 조회하지 않고 연관관계 설정용 참조(프록시) 객체만 가져오는 메서드입니다.
+     * 존재 여부는 getQuestionDetails 등으로 먼저 확인해야 합니다.
+     *
+     * @param qId 문제 ID
+     * @return 문제 참조 객체를 반환합니다.
+     */
+    Question getQuestionReference(Long qId);
+
+    /**
+     * 문제 공유수를 DB에서 원자적으로 1 증가시키는 메서드입니다.
+     *
+     * @param qId 문제 ID
+     * @return 증가한 공유수를 반환합니다.
+     */
+    long increaseShareCounter(Long qId);
+
+    /**
+     * 문제가 공유되었을 때 공유수 캐시만 삭제하는 메서드입니다. (문제 상세 정보 캐시는 유지)
+     * 트랜잭션이 커밋된 후에 삭제되며, 다음 조회 때 DB 공유수로 다시 채워집니다.
+     *
+     * @param qId 문제 ID
+     */
+    void evictShareCounter(Long qId);
+
     /**
      * 문제 객체를 DB에 저장하는 메서드입니다.
      *
@@ -3,7 +3,9 @@ package hpclab.kcsatspringcommunity.question.service;
 import hpclab.kcsatspringcommunity.exception.ApiException;
 import hpclab.kcsatspringcommunity.exception.ErrorCode;
 import hpclab.kcsatspringcommunity.question.domain.Question;
+import hpclab.kcsatspringcommunity.question.dto.QuestionDetailsDto;
 import hpclab.kcsatspringcommunity.question.repository.QuestionRepository;
+import hpclab.kcsatspringcommunity.search.service.SearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class QuestionServiceImpl implements QuestionService {
     private final QuestionRepository questionRepository;
+    private final SearchService searchService;
+    private final QuestionCache questionCache;
 
     @Transactional(readOnly = true)
     @Override
@@ -23,9 +27,43 @@ public class QuestionServiceImpl implements QuestionService {
                 .orElseThrow(() -> new ApiException(ErrorCode.QUESTION_NOT_FOUND));
     }
 
+    @Override
+    public QuestionDetailsDto getQuestionDetails(Long qId) {
+        // 공유수는 캐시에 저장하지 않고 공유수 캐시에서 따로 읽음 (공유될 때 상세 정보 캐시를 지우지 않도록)
+        QuestionDetailsDto question = questionCache.get(qId, () -> new QuestionDetailsDto(getQuestion(qId)).withShareCounter(null));
+
+        return question.withShareCounter(questionCache.getShareCounter(qId, () -> questionRepository.findShareCounterById(qId)
+                .orElseThrow(() -> new ApiException(ErrorCode.QUESTION_NOT_FOUND))));
+    }
+
+    @Override
+    public Question getQuestionReference(Long qId) {
+        return questionRepository.getReferenceById(qId);
+    }
+
+    @Transactional
+    @Override
+    public long increaseShareCounter(Long qId) {
+        Long shareCounter = questionRepository.increaseShareCounter(qId);
+        if (shareCounter == null) {
+            throw new ApiException(ErrorCode.QUESTION_NOT_FOUND);
+        }
+
+        return shareCounter;
+    }
+
+    @Override
+    public void evictShareCounter(Long qId) {
+        questionCache.evictShareCounter(qId);
+    }
+
     @Transactional
     @Override
     public Long saveQuestion(Question question) {
-        return questionRepository.save(question).getId();
+        Question saved = questionRepository.save(question);
+        searchService.indexQuestion(saved);
+        questionCache.evict(saved.getId());
+
+        return saved.getId();
     }
 }
@@ -1,18 +1,24 @@
 package hpclab.kcsatspringcommunity.questionRank.controller;
 
 import hpclab.kcsatspringcommunity.exception.ApiResponse;
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
 import hpclab.kcsatspringcommunity.question.dto.QuestionResponseForm;
+import hpclab.kcsatspringcommunity.questionRank.domain.TrendWindow;
 import hpclab.kcsatspringcommunity.questionRank.service.QuestionRankService;
+import hpclab.kcsatspringcommunity.questionRank.service.QuestionTrendService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
 
 /**
- * 주간 인기 문제 랭킹을 가져오는 컨트롤러 클래스입니다.
+ * 주간 인기 문제 랭킹, 문제 유형별 인기 문제, 실시간 인기 문제를 가져오는 컨트롤러 클래스입니다.
  */
 @Slf4j
 @RestController
@@ -21,14 +27,49 @@ public class QuestionRankController {
 
     private final QuestionRankService questionRankService;
 
+    private final QuestionTrendService questionTrendService;
+
     /**
      * 주간 인기 문제를 가져오는 메서드입니다.
      *
      * @return 가장 인기 있는 문제 5개를 선별하여 목록으로 반환합니다.
      */
     @GetMapping("/api/community/question/open/weekly")
-    public ResponseEntity<ApiResponse<List<QuestionResponseForm>>> weeklyQuestionRank() {
+    public ResponseEntity<byte[]> weeklyQuestionRank() {
+
+        // 순위 갱신 시 미리 만들어 둔 ApiResponse JSON을 그대로 반환
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(questionRankService.getRankedQuestionsResponse());
+    }
+
+    /**
+     * 문제 유형별 인기 문제를 가져오는 메서드입니다.
+     * 문제가 공유될 때마다 해당 유형 순위에 바로 반영됩니다.
+     *
+     * @param type 문제 유형
+     * @param size 가져올 문제 수
+     * @return 해당 유형에서 가장 인기 있는 문제를 순위대로 반환합니다.
+     */
+    @GetMapping("/api/community/question/open/rank/{type}")
+    public ResponseEntity<ApiResponse<List<QuestionResponseForm>>> questionTypeRank(@PathVariable QuestionType type,
+                                                                                    @RequestParam(defaultValue = "5") int size) {
+
+        return ResponseEntity.ok(new ApiResponse<>(true, questionRankService.getRankedQuestions(type, size), null, null));
+    }
+
+    /**
+     * 실시간 인기 문제를 가져오는 메서드입니다.
+     * 주간 인기 문제와 달리 문제가 공유될 때마다 바로 순위에 반영됩니다.
+     *
+     * @param window 집계 구간 (DAILY: 최근 24시간, WEEKLY: 최근 7일, MONTHLY: 최근 30일)
+     * @param size 가져올 문제 수
+     * @return 집계 구간 동안 가장 많이 공유된 문제를 순위대로 반환합니다.
+     */
+    @GetMapping("/api/community/question/open/trending")
+    public ResponseEntity<ApiResponse<List<QuestionResponseForm>>> trendingQuestions(@RequestParam(defaultValue = "DAILY") TrendWindow window,
+                                                                                     @RequestParam(defaultValue = "5") int size) {
 
-        return ResponseEntity.ok(new ApiResponse<>(true, questionRankService.getRankedQuestions(), null, null));
+        return ResponseEntity.ok(new ApiResponse<>(true, questionTrendService.getTrendingQuestions(window, size), null, null));
     }
 }
\ No newline at end of file
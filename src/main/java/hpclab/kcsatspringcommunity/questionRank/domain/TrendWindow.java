@@ -0,0 +1,41 @@
+package hpclab.kcsatspringcommunity.questionRank.domain;
+
+import lombok.Getter;
+
+/**
+ * 실시간 인기 문제 집계 구간을 나타내는 열거형 클래스입니다.
+ * 일간 구간은 최근 24개의 시간 단위 버킷, 주간/월간 구간은 최근 7/30개의 일 단위 버킷을 합산합니다.
+ */
+@Getter
+public enum TrendWindow {
+
+    /**
+     * 최근 24시간
+     */
+    DAILY(24, true),
+
+    /**
+     * 최근 7일 (오늘 포함)
+     */
+    WEEKLY(7, false),
+
+    /**
+     * 최근 30일 (오늘 포함)
+     */
+    MONTHLY(30, false);
+
+    /**
+     * 합산할 버킷 수
+     */
+    private final int buckets;
+
+    /**
+     * 시간 단위 버킷 사용 여부 (false라면 일 단위 버킷)
+     */
+    private final boolean hourly;
+
+    TrendWindow(int buckets, boolean hourly) {
+        this.buckets = buckets;
+        this.hourly = hourly;
+    }
+}
@@ -1,5 +1,7 @@
 package hpclab.kcsatspringcommunity.questionRank.service;
 
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import hpclab.kcsatspringcommunity.question.dto.QuestionRankDto;
 import hpclab.kcsatspringcommunity.question.dto.QuestionResponseForm;
 
 import java.util.List;
@@ -17,9 +19,37 @@ public interface QuestionRankService {
      */
     List<QuestionResponseForm> getRankedQuestions();
 
+    /**
+     * 주간 인기 문제 API 응답을 직렬화된 JSON으로 가져오는 메서드입니다.
+     * 응답은 순위가 갱신될 때 미리 만들어 Redis에 저장해 두므로, 서버 메모리 또는 Redis 조회 한 번으로 처리됩니다.
+     *
+     * @return ApiResponse 형식의 주간 인기 문제 목록 JSON (UTF-8)
+     */
+    byte[] getRankedQuestionsResponse();
+
+    /**
+     * 문제 유형별 인기 문제를 가져오는 메서드입니다.
+     * 유형별 순위 Sorted Set 범위 조회 한 번과, 문제를 보기와 함께 가져오는 쿼리 한 번으로 처리합니다.
+     *
+     * @param type 문제 유형
+     * @param size 가져올 문제 수 (1 ~ 유형별 순위 깊이)
+     * @return 해당 유형의 인기 문제를 순위대로 담은 목록을 반환합니다.
+     */
+    List<QuestionResponseForm> getRankedQuestions(QuestionType type, int size);
+
+    /**
+     * 문제가 공유될 때마다 문제 유형별 순위에 현재 점수를 반영하는 메서드입니다.
+     * 순위는 설정한 깊이만큼만 유지합니다.
+     * 공유 트랜잭션이 커밋된 후, DB에 반영된 공유수로 호출해야 합니다.
+     *
+     * @param question 공유수가 갱신된 문제의 ID, 유형, DB 공유수, 생성 시간
+     */
+    void updateQuestionTypeRank(QuestionRankDto question);
+
     /**
      * 매주 월요일 0시에 인기 문제를 계산합니다.
      * 계산된 문제는 Redis에 저장되어 캐시화됩니다.
+     * 문제 유형별 순위도 DB 기준으로 함께 보정합니다.
      */
     void updateQuestionRank();
 }
@@ -1,26 +1,41 @@
 package hpclab.kcsatspringcommunity.questionRank.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
 import hpclab.kcsatspringcommunity.exception.ApiException;
+import hpclab.kcsatspringcommunity.exception.ApiResponse;
 import hpclab.kcsatspringcommunity.exception.ErrorCode;
 import hpclab.kcsatspringcommunity.question.domain.Choice;
 import hpclab.kcsatspringcommunity.question.domain.Question;
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import hpclab.kcsatspringcommunity.question.dto.QuestionRankDto;
 import hpclab.kcsatspringcommunity.question.dto.QuestionResponseForm;
 import hpclab.kcsatspringcommunity.question.repository.QuestionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static java.lang.Math.log10;
-import static java.lang.Math.min;
 
 /**
  * 주간 문제 랭킹 로직을 구현한 클래스입니다.
@@ -34,21 +49,59 @@ public class QuestionRankServiceImpl implements QuestionRankService {
 
     private final RedisTemplate<String, String> redisTemplate;
 
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 주간 인기 문제 응답 JSON의 서버 메모리 캐시 유지 시간 (밀리초)
+     * 다른 서버에서 순위를 갱신한 경우, 이 시간이 지난 뒤 Redis에서 새 응답을 읽어옵니다.
+     */
+    @Value("${community.question.rank.response-local-ttl-ms:60000}")
+    private long responseLocalTtlMs;
+
+    /**
+     * 서버 메모리에 보관 중인 주간 인기 문제 응답 JSON
+     */
+    private volatile CachedResponse cachedResponse;
+
+    /**
+     * 주간 인기 문제 수
+     */
+    private static final int RANK_SIZE = 5;
+
+    /**
+     * 문제 유형별로 유지하는 인기 문제 수
+     */
+    @Value("${community.question.rank.type-depth:20}")
+    private int typeRankDepth;
+
     @Transactional(readOnly = true)
     @Override
     public List<QuestionResponseForm> getRankedQuestions() {
-        List<QuestionResponseForm> questions = new ArrayList<>();
+        List<Long> qIds = new ArrayList<>();
 
-        for (int i = 1; i <= 5; i++) {
+        for (int i = 1; i <= RANK_SIZE; i++) {
             String qIdString = redisTemplate.opsForValue().get(RedisKeyUtil.questionRank(i));
             if (qIdString == null) {
                 break;
             }
 
-            Long qId = Long.parseLong(qIdString);
+            qIds.add(Long.parseLong(qIdString));
+        }
+
+        if (qIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 순위에 오른 문제를 보기와 함께 한 번의 쿼리로 조회
+        Map<Long, Question> questionsById = new HashMap<>();
+        questionRepository.findAllWithChoicesByIdIn(qIds).forEach(question -> questionsById.put(question.getId(), question));
 
-            Question question = questionRepository.findWithChoicesById(qId)
-                    .orElseThrow(() -> new ApiException(ErrorCode.QUESTION_NOT_FOUND));
+        List<QuestionResponseForm> questions = new ArrayList<>();
+        for (Long qId : qIds) {
+            Question question = questionsById.get(qId);
+            if (question == null) {
+                throw new ApiException(ErrorCode.QUESTION_NOT_FOUND);
+            }
 
             questions.add(QuestionResponseForm.builder()
                     .qId(question.getId())
@@ -64,23 +117,162 @@ public class QuestionRankServiceImpl implements QuestionRankService {
         return questions;
     }
 
+    @Override
+    public byte[] getRankedQuestionsResponse() {
+        // 캐시 조회만으로 끝나는 경우가 대부분이므로 트랜잭션(DB 커넥션)을 열지 않음
+        CachedResponse cached = cachedResponse;
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.body();
+        }
+
+        String body = redisTemplate.opsForValue().get(RedisKeyUtil.questionRankResponse());
+        if (body == null) {
+            // 아직 만들어진 응답이 없다면 (최초 실행, Redis 초기화 등) 지금 순위로 한 번 만듦
+            body = renderRankedQuestionsResponse();
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        cachedResponse = new CachedResponse(bytes, System.currentTimeMillis() + responseLocalTtlMs);
+
+        return bytes;
+    }
+
+    /**
+     * 현재 주간 인기 문제로 API 응답 JSON을 만들어 Redis에 저장합니다.
+     * 순위가 바뀔 때만 호출되므로, 조회 요청에서는 문제 조회, DTO 변환, 직렬화를 하지 않습니다.
+     *
+     * @return 응답 JSON 문자열
+     */
+    private String renderRankedQuestionsResponse() {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(new ApiResponse<>(true, getRankedQuestions(), null, null));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        redisTemplate.opsForValue().set(RedisKeyUtil.questionRankResponse(), body);
+        cachedResponse = null;
+
+        return body;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<QuestionResponseForm> getRankedQuestions(QuestionType type, int size) {
+        if (size < 1 || size > typeRankDepth) {
+            throw new ApiException(ErrorCode.INVALID_INPUT);
+        }
+
+        Set<String> ranked = redisTemplate.opsForZSet().reverseRange(RedisKeyUtil.questionTypeRank(type), 0, size - 1);
+        if (ranked == null || ranked.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> qIds = ranked.stream().map(Long::parseLong).toList();
+
+        Map<Long, Question> questionsById = new HashMap<>();
+        questionRepository.findAllWithChoicesByIdIn(qIds).forEach(question -> questionsById.put(question.getId(), question));
+
+        List<QuestionResponseForm> questions = new ArrayList<>();
+        qIds.forEach(qId -> {
+            Question question = questionsById.get(qId);
+            if (question != null) {
+                questions.add(new QuestionResponseForm(question));
+            }
+        });
+
+        return questions;
+    }
+
+    @Override
+    public void updateQuestionTypeRank(QuestionRankDto question) {
+        double score = redditRankingAlgorithm(question.getShareCounter(), question.getCreatedDate());
+
+        writeTypeRank(question.getType(), List.of(new RankedQuestion(question.getId(), score)));
+    }
+
+    /**
+     * 문제 유형별 순위에 점수를 기록하고, 설정한 깊이를 넘는 하위 순위는 잘라냅니다. (ZADD GT + ZREMRANGEBYRANK)
+     * 공유수는 늘어나기만 하므로, 기존에 기록된 점수는 실제 점수보다 높을 수 없어 잘라낸 결과도 올바른 상위 순위가 됩니다.
+     * 동시에 공유된 문제의 갱신이 커밋 순서와 다르게 도착해도 점수가 낮아지지 않도록, 기존 점수보다 클 때만 덮어씁니다.
+     */
+    private void writeTypeRank(QuestionType type, List<RankedQuestion> questions) {
+        byte[] key = bytes(RedisKeyUtil.questionTypeRank(type));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            questions.forEach(question -> connection.zSetCommands()
+                    .zAdd(key, question.score(), bytes(question.qId()), RedisZSetCommands.ZAddArgs.empty().gt()));
+            connection.zSetCommands().zRemRange(key, 0, -(typeRankDepth + 1));
+            return null;
+        });
+    }
+
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
     @Scheduled(cron = "0 0 0 ? * MON", zone = "Asia/Seoul")
     @Transactional(readOnly = true)
     @Override
     public void updateQuestionRank() {
         log.info("cron update question rank");
 
-        List<Question> questions = questionRepository.findAllByShareCounterGreaterThan(0L);
+        // 점수가 가장 낮은 문제가 맨 앞에 오는 크기 5의 최소 힙으로, 전체 목록 없이 상위 5개만 유지
+        PriorityQueue<RankedQuestion> topQuestions = new PriorityQueue<>(Comparator.comparingDouble(RankedQuestion::score));
+        // 문제 유형별 순위도 같은 방식으로 유형마다 깊이만큼의 최소 힙으로 함께 계산
+        Map<QuestionType, PriorityQueue<RankedQuestion>> topTypeQuestions = new EnumMap<>(QuestionType.class);
+
+        try (Stream<QuestionRankDto> candidates = questionRepository.streamRankCandidates(0L)) {
+            candidates.forEach(candidate -> {
+                RankedQuestion rankedQuestion = new RankedQuestion(candidate.getId(),
+                        redditRankingAlgorithm(candidate.getShareCounter(), candidate.getCreatedDate()));
+
+                offer(topQuestions, rankedQuestion, RANK_SIZE);
+                offer(topTypeQuestions.computeIfAbsent(candidate.getType(),
+                        type -> new PriorityQueue<>(Comparator.comparingDouble(RankedQuestion::score))), rankedQuestion, typeRankDepth);
+            });
+        }
+
+        topTypeQuestions.forEach((type, typeQuestions) -> writeTypeRank(type, new ArrayList<>(typeQuestions)));
+
+        List<RankedQuestion> ranked = new ArrayList<>(topQuestions);
+        ranked.sort(Comparator.comparingDouble(RankedQuestion::score).reversed());
+
+        for (int i = 1; i <= RANK_SIZE; i++) {
+            if (i <= ranked.size()) {
+                redisTemplate.opsForValue().set(RedisKeyUtil.questionRank(i), String.valueOf(ranked.get(i - 1).qId()));
+            }
+            else {
+                // 이번 주 후보가 5개 미만이라면 지난 순위가 남지 않도록 삭제
+                redisTemplate.delete(RedisKeyUtil.questionRank(i));
+            }
+        }
+
+        // 순위가 바뀌었으므로 미리 만들어 둔 응답도 다시 만듦
+        renderRankedQuestionsResponse();
+    }
 
-        questions.sort((o1, o2) ->
-                Double.compare(redditRankingAlgorithm(Double.valueOf(o2.getShareCounter()), o2.getCreatedDate()),
-                        redditRankingAlgorithm(Double.valueOf(o1.getShareCounter()), o1.getCreatedDate())));
+    private void offer(PriorityQueue<RankedQuestion> topQuestions, RankedQuestion question, int size) {
+        topQuestions.offer(question);
 
-        for (int i = 1; i <= min(questions.size(), 5); i++) {
-            redisTemplate.opsForValue().set(RedisKeyUtil.questionRank(i), String.valueOf(questions.get(i - 1).getId()));
+        if (topQuestions.size() > size) {
+            topQuestions.poll();
         }
     }
 
+    /**
+     * 서버 메모리에 보관하는 응답 JSON과 만료 시각입니다.
+     */
+    private record CachedResponse(byte[] body, long expiresAt) {
+    }
+
+    /**
+     * 랭킹 계산 중인 문제 ID와 점수입니다.
+     */
+    private record RankedQuestion(Long qId, double score) {
+    }
+
     /**
      * RedditRankingAlgorithm에 따른 선호도 갱신
      * (log10(추천 수) + 작성 시간 내림차순) 공식으로 계산
@@ -0,0 +1,30 @@
+package hpclab.kcsatspringcommunity.questionRank.service;
+
+import hpclab.kcsatspringcommunity.question.dto.QuestionResponseForm;
+import hpclab.kcsatspringcommunity.questionRank.domain.TrendWindow;
+
+import java.util.List;
+
+/**
+ * 문제 공유(문제집 저장)를 실시간으로 집계하여 인기 문제를 제공하는 기능을 정의한 인터페이스입니다.
+ * 주간 문제 랭킹(QuestionRankService)과 달리 배치 작업 없이 공유될 때마다 순위가 갱신됩니다.
+ */
+public interface QuestionTrendService {
+
+    /**
+     * 문제 공유를 현재 시간/일 단위 버킷 Sorted Set에 1점씩 반영하는 메서드입니다. (ZINCRBY, O(log n))
+     *
+     * @param qId 공유된 문제 ID
+     */
+    void recordShare(Long qId);
+
+    /**
+     * 집계 구간 동안 가장 많이 공유된 문제를 가져오는 메서드입니다.
+     * 구간의 버킷들을 ZUNIONSTORE로 합산한 결과는 잠시 캐싱하여, 이후 조회는 범위 조회 한 번으로 처리합니다.
+     *
+     * @param window 집계 구간 (일간, 주간, 월간)
+     * @param size 가져올 문제 수 (1 ~ 50)
+     * @return 인기 문제를 순위대로 담은 목록을 반환합니다.
+     */
+    List<QuestionResponseForm> getTrendingQuestions(TrendWindow window, int size);
+}
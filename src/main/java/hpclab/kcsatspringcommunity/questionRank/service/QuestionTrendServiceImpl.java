@@ -0,0 +1,143 @@
+package hpclab.kcsatspringcommunity.questionRank.service;
+
+import hpclab.kcsatspringcommunity.exception.ApiException;
+import hpclab.kcsatspringcommunity.exception.ErrorCode;
+import hpclab.kcsatspringcommunity.question.domain.Question;
+import hpclab.kcsatspringcommunity.question.dto.QuestionResponseForm;
+import hpclab.kcsatspringcommunity.question.repository.QuestionRepository;
+import hpclab.kcsatspringcommunity.questionRank.domain.TrendWindow;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import hpclab.kcsatspringcommunity.redis.RedisScriptUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 인기 문제 집계 로직을 구현한 클래스입니다.
+ *
+ * <p>문제 공유는 시간 단위 버킷(question:{trend}:hour:yyyyMMddHH)과 일 단위 버킷(question:{trend}:day:yyyyMMdd)
+ * Sorted Set에 함께 반영하며, 버킷은 가장 긴 집계 구간이 지나면 만료됩니다.
+ * 모든 버킷 키는 같은 해시 태그({trend})를 가지므로 Redis Cluster에서도 ZUNIONSTORE가 가능합니다.
+ * 구간 합산과 합산 결과 유지 시간 설정은 하나의 Lua 스크립트로 원자적으로 처리합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuestionTrendServiceImpl implements QuestionTrendService {
+
+    private final QuestionRepository questionRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 구간별 합산 결과 캐시 유지 시간
+     */
+    @Value("${community.question.trend.window-ttl-seconds:30}")
+    private long windowTtlSeconds;
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * 버킷 유지 시간 (가장 긴 구간보다 하루 더 유지)
+     */
+    private static final Duration HOUR_BUCKET_TTL = Duration.ofHours(TrendWindow.DAILY.getBuckets() + 24);
+    private static final Duration DAY_BUCKET_TTL = Duration.ofDays(TrendWindow.MONTHLY.getBuckets() + 1);
+
+    private static final int MAX_TREND_SIZE = 50;
+
+    @Override
+    public void recordShare(Long qId) {
+        LocalDateTime now = LocalDateTime.now(ZONE_SEOUL);
+        String hourKey = RedisKeyUtil.questionTrendHour(now.format(HOUR_FORMAT));
+        String dayKey = RedisKeyUtil.questionTrendDay(now.format(DAY_FORMAT));
+        String member = String.valueOf(qId);
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                ops.opsForZSet().incrementScore(hourKey, member, 1);
+                ops.expire(hourKey, HOUR_BUCKET_TTL);
+                ops.opsForZSet().incrementScore(dayKey, member, 1);
+                ops.expire(dayKey, DAY_BUCKET_TTL);
+                return null;
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<QuestionResponseForm> getTrendingQuestions(TrendWindow window, int size) {
+        if (size < 1 || size > MAX_TREND_SIZE) {
+            throw new ApiException(ErrorCode.INVALID_INPUT);
+        }
+
+        String windowKey = RedisKeyUtil.questionTrendWindow(window.name());
+
+        // 합산 결과가 없을 때만 구간 버킷들을 합산 (이후 캐시 유지 시간 동안은 범위 조회만 수행)
+        // 합산, 유지 시간 설정, 범위 조회를 한 스크립트로 처리하여 유지 시간 없는 합산 결과가 남지 않도록 함
+        List<String> keys = new ArrayList<>();
+        keys.add(windowKey);
+        keys.addAll(bucketKeys(window));
+
+        @SuppressWarnings("unchecked")
+        List<String> ranked = redisTemplate.execute(RedisScriptUtil.TREND_WINDOW_RANGE, keys,
+                String.valueOf(windowTtlSeconds), String.valueOf(size));
+        if (ranked == null || ranked.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> qIds = ranked.stream().map(Long::parseLong).toList();
+
+        // 순위에 오른 문제를 보기와 함께 한 번의 쿼리로 조회한 뒤 순위대로 정렬
+        Map<Long, Question> questionsById = new HashMap<>();
+        questionRepository.findAllWithChoicesByIdIn(qIds).forEach(question -> questionsById.put(question.getId(), question));
+
+        List<QuestionResponseForm> questions = new ArrayList<>();
+        qIds.forEach(qId -> {
+            Question question = questionsById.get(qId);
+            if (question != null) {
+                questions.add(new QuestionResponseForm(question));
+            }
+        });
+
+        return questions;
+    }
+
+    /**
+     * 집계 구간에 해당하는 버킷 키 목록을 현재 버킷부터 과거 순으로 만듭니다.
+     */
+    private List<String> bucketKeys(TrendWindow window) {
+        LocalDateTime now = LocalDateTime.now(ZONE_SEOUL);
+        List<String> keys = new ArrayList<>();
+
+        for (int i = 0; i < window.getBuckets(); i++) {
+            if (window.isHourly()) {
+                keys.add(RedisKeyUtil.questionTrendHour(now.minusHours(i).format(HOUR_FORMAT)));
+            }
+            else {
+                keys.add(RedisKeyUtil.questionTrendDay(now.minusDays(i).format(DAY_FORMAT)));
+            }
+        }
+
+        return keys;
+    }
+}
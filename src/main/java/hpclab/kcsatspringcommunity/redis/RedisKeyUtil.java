@@ -1,5 +1,6 @@
 package hpclab.kcsatspringcommunity.redis;
 
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
 
 /**
  * Redis DB와 상호작용하는 키를 통합 관리하는 저장소 클래스입니다.
@@ -7,16 +8,17 @@ package hpclab.kcsatspringcommunity.redis;
 public class RedisKeyUtil {
 
     // 댓글 관련 키
+    // {cId} 해시 태그로 같은 댓글의 키들은 Redis Cluster에서도 같은 슬롯에 배치됩니다.
     public static String commentUpVote(Long cId) {
-        return "comment:" + cId + ":upVote";
+        return "comment:{" + cId + "}:upVote";
     }
 
     public static String commentDownVote(Long cId) {
-        return "comment:" + cId + ":downVote";
+        return "comment:{" + cId + "}:downVote";
     }
 
     public static String commentUserCheck(Long cId, String email) {
-        return "comment:" + cId + ":user:" + email;
+        return "comment:{" + cId + "}:user:" + email;
     }
 
     public static String commentIdemCheck(Long mId, String hash) {
@@ -24,20 +26,99 @@ public class RedisKeyUtil {
     }
 
     // 게시글 관련 키
-    public static String postViewCount(Long pId) {
+    // 게시글 카운터는 게시글마다 하나의 Hash에 모아서 저장합니다.
+    // {pId} 해시 태그로 같은 게시글의 키들은 Redis Cluster에서도 같은 슬롯에 배치됩니다.
+    public static final String POST_VIEW_COUNT = "viewCount";
+    public static final String POST_UP_VOTE = "upVote";
+    public static final String POST_DOWN_VOTE = "downVote";
+    public static final String POST_HOT = "hot";
+    public static final String POST_COMMENT_COUNT = "commentCount";
+
+    // 이전 문자열 카운터 키에서 옮겨온 추천/비추천수 (추천 장부 도입 전 투표, 장부로 다시 계산할 때 더함)
+    public static final String POST_LEGACY_UP_VOTE = "legacyUpVote";
+    public static final String POST_LEGACY_DOWN_VOTE = "legacyDownVote";
+
+    public static String postCount(Long pId) {
+        return "post:{" + pId + "}:count";
+    }
+
+    // 게시글 카운터 Hash 도입 전 문자열 카운터 키 (PostCountMigration에서 옮긴 뒤 삭제)
+    public static String legacyPostViewCount(Long pId) {
         return "post:viewCount:" + pId;
     }
 
-    public static String postUpVote(Long pId) {
+    public static String legacyPostUpVote(Long pId) {
         return "post:upVote:" + pId;
     }
 
-    public static String postDownVote(Long pId) {
+    public static String legacyPostDownVote(Long pId) {
         return "post:downVote:" + pId;
     }
 
-    public static String postUserCheck(Long pId, String email) {
-        return "post:userView:" + pId + ":" + email;
+    // 이전 문자열 카운터 키를 모두 옮겼음을 표시하는 키
+    public static String postCountMigrated() {
+        return "post:count:migrated";
+    }
+
+    // 게시글 추천 장부 (회원 ID -> 1: 추천, -1: 비추천)
+    public static String postVote(Long pId) {
+        return "post:{" + pId + "}:vote";
+    }
+
+    // 게시글 인기 댓글 Sorted Set (member: 댓글 ID, score: 추천수 - 비추천수)
+    public static String postHotComment(Long pId) {
+        return "post:{" + pId + "}:hotComment";
+    }
+
+    // 게시글 인기 댓글 점수를 카운터 값으로 채운 시점 (댓글 ID -> 채울 때의 투표 순번)
+    public static String postHotCommentSeeded(Long pId) {
+        return "post:{" + pId + "}:hotComment:seeded";
+    }
+
+    // 게시글 일별 조회 회원 Set (member: 회원 ID, date: yyyyMMdd)
+    public static String postViewedMembers(Long pId, String date) {
+        return "post:{" + pId + "}:viewers:" + date;
+    }
+
+    // 게시글 인기도 점수 Sorted Set (member: 게시글 ID)
+    public static String postHotScore() {
+        return "post:hot:score";
+    }
+
+    // 인기 게시판 Sorted Set (member: 게시글 ID, score: 인기도 점수)
+    public static String postHotBoard() {
+        return "post:hot:board";
+    }
+
+    public static String postHotBoard(QuestionType type) {
+        return "post:hot:board:" + type.name();
+    }
+
+    // 댓글 수가 변경되어 DB 반영을 기다리는 게시글 Hash (field: 게시글 ID, value: 반영 전 변경 횟수)
+    public static String postCommentCountChanged() {
+        return "post:commentCount:changed";
+    }
+
+    // 게시글 수 Hash (field: ALL 또는 문제 유형 이름, 문제가 첨부되지 않은 게시글은 ALL에만 포함)
+    public static final String POST_TOTAL_ALL = "ALL";
+
+    public static String postTotal() {
+        return "post:total";
+    }
+
+    // 게시글 제목 검색 결과 수 캐시 (board: all 또는 hot)
+    public static String postSearchTotal(String board, QuestionType type, String keyword) {
+        return "post:search:total:" + board + ":" + (type == null ? POST_TOTAL_ALL : type.name()) + ":" + keyword;
+    }
+
+    // 게시글 실시간 알림 Pub/Sub 채널 (event: comment, commentDelete, count)
+    public static String postLiveChannel(Long pId, String event) {
+        return "post:live:" + pId + ":" + event;
+    }
+
+    // 게시글 하나의 모든 실시간 알림 채널 패턴
+    public static String postLiveChannelPattern(Long pId) {
+        return "post:live:" + pId + ":*";
     }
 
     public static String postIdemCheck(Long mId, String hash) {
@@ -45,6 +126,18 @@ public class RedisKeyUtil {
     }
 
     // 문제 관련 키
+    // 문제 상세 정보 캐시 (JSON), 캐시 삭제 알림 Pub/Sub 채널 (message: 문제 ID)
+    public static final String QUESTION_CACHE_EVICT_CHANNEL = "question:cache:evict";
+
+    public static String questionCache(Long qId) {
+        return "question:cache:" + qId;
+    }
+
+    // 문제 공유수 캐시 (문제 상세 정보 캐시와 따로 저장하여, 공유될 때는 이 키만 삭제)
+    public static String questionShareCount(Long qId) {
+        return "question:cache:" + qId + ":shareCount";
+    }
+
     public static String questionSavedCheck(String email, Long qId) {
         return "question:" + email + ":isSaved:" + qId;
     }
@@ -53,8 +146,44 @@ public class RedisKeyUtil {
         return "question:rank:" + rank;
     }
 
+    // 주간 인기 문제 API 응답 JSON (순위 갱신 시 다시 만듦)
+    public static String questionRankResponse() {
+        return "question:rank:response";
+    }
+
+    // 문제 유형별 인기 문제 Sorted Set (member: 문제 ID, score: Reddit 랭킹 점수)
+    public static String questionTypeRank(QuestionType type) {
+        return "question:rank:type:" + type.name();
+    }
+
+    // 실시간 인기 문제 버킷 Sorted Set (member: 문제 ID, score: 공유 수)
+    // {trend} 해시 태그로 모든 버킷과 합산 결과가 Redis Cluster에서도 같은 슬롯에 배치되어 ZUNIONSTORE가 가능합니다.
+    public static String questionTrendHour(String hour) {
+        return "question:{trend}:hour:" + hour;
+    }
+
+    public static String questionTrendDay(String date) {
+        return "question:{trend}:day:" + date;
+    }
+
+    // 실시간 인기 문제 구간별 합산 결과 캐시 (window: DAILY, WEEKLY, MONTHLY)
+    public static String questionTrendWindow(String window) {
+        return "question:{trend}:window:" + window;
+    }
+
+    // 검색 관련 키
+    // 검색 색인 변경 Stream (field message: SearchIndexMessage JSON)
+    public static final String SEARCH_INDEX_STREAM = "search:index:stream";
+
+    // 검색 색인 변경 알림 Pub/Sub 채널 (message: 색인 작업 종류, 변경 내용은 Stream에서 읽음)
+    public static final String SEARCH_INDEX_CHANNEL = "search:index";
+
     // 회원 관련 키
     public static String userIdemCheck(String email) {
         return "signup:lock:" + email;
     }
+
+    public static String memberId(String email) {
+        return "member:id:" + email;
+    }
 }
@@ -0,0 +1,78 @@
+package hpclab.kcsatspringcommunity.redis;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * Redis 서버에서 원자적으로 실행되는 Lua 스크립트를 통합 관리하는 클래스입니다.
+ * 스크립트 원문은 resources/scripts 경로에 있습니다.
+ * 스크립트에 넘기는 키들은 Redis Cluster에서도 동작하도록 같은 해시 태그를 가져야 합니다.
+ */
+public class RedisScriptUtil {
+
+    /**
+     * 회원 중복 체크 + 댓글 카운터 증가 + {증가 여부, 현재 값, 추천수 - 비추천수, 추천수 + 비추천수} 반환
+     */
+    @SuppressWarnings("rawtypes")
+    public static final RedisScript<List> COMMENT_VOTE =
+            RedisScript.of(new ClassPathResource("scripts/comment_vote.lua"), List.class);
+
+    /**
+     * 일별 방문 회원 Set에 회원 ID 추가 + 첫 방문이라면 Hash 카운터 필드 증가 + 현재 값 반환
+     */
+    public static final RedisScript<Long> FIRST_VISIT_HASH_INCREMENT =
+            RedisScript.of(new ClassPathResource("scripts/first_visit_hash_increment.lua"), Long.class);
+
+    /**
+     * 일별 방문 회원 Set에 회원 ID 여러 개 추가 + 새로 추가된 회원 수만큼 Hash 카운터 필드 증가 + 추가된 회원 수 반환
+     */
+    public static final RedisScript<Long> VIEWERS_HASH_INCREMENT =
+            RedisScript.of(new ClassPathResource("scripts/viewers_hash_increment.lua"), Long.class);
+
+    /**
+     * 게시글 추천 장부에 회원 투표 기록/변경 + 추천/비추천 합계 갱신 + {변경 여부, 추천수, 비추천수} 반환
+     */
+    @SuppressWarnings("rawtypes")
+    public static final RedisScript<List> POST_VOTE =
+            RedisScript.of(new ClassPathResource("scripts/post_vote.lua"), List.class);
+
+    /**
+     * 게시글 추천 장부(+ 장부 도입 전 투표) 기준으로 추천/비추천 합계 재계산 + {보정 여부, 추천수, 비추천수} 반환
+     */
+    @SuppressWarnings("rawtypes")
+    public static final RedisScript<List> POST_VOTE_RECOUNT =
+            RedisScript.of(new ClassPathResource("scripts/post_vote_recount.lua"), List.class);
+
+    /**
+     * 이전 문자열 카운터 값을 게시글 카운터 Hash에 한 번만 더하기 + 반영 여부 반환
+     */
+    public static final RedisScript<Long> POST_COUNT_MIGRATE =
+            RedisScript.of(new ClassPathResource("scripts/post_count_migrate.lua"), Long.class);
+
+    /**
+     * 카운터 Hash에 이미 존재하는 필드만 증감 + 증감한 필드 수 반환
+     */
+    public static final RedisScript<Long> HASH_INCREMENT_IF_EXISTS =
+            RedisScript.of(new ClassPathResource("scripts/hash_increment_if_exists.lua"), Long.class);
+
+    /**
+     * 인기 댓글 점수 증감, 순위에 없다면 투표 직후 점수로 채움 + 반영 여부 반환
+     */
+    public static final RedisScript<Long> HOT_COMMENT_SCORE =
+            RedisScript.of(new ClassPathResource("scripts/hot_comment_score.lua"), Long.class);
+
+    /**
+     * Hash 필드 값이 읽어둔 값과 같을 때만 필드 삭제 + 삭제한 필드 수 반환
+     */
+    public static final RedisScript<Long> HASH_DELETE_IF_EQUALS =
+            RedisScript.of(new ClassPathResource("scripts/hash_delete_if_equals.lua"), Long.class);
+
+    /**
+     * 구간 합산 결과가 없다면 버킷들을 합산 + 유지 시간 설정, 상위 멤버 목록 반환
+     */
+    @SuppressWarnings("rawtypes")
+    public static final RedisScript<List> TREND_WINDOW_RANGE =
+            RedisScript.of(new ClassPathResource("scripts/trend_window_range.lua"), List.class);
+}
@@ -0,0 +1,45 @@
+package hpclab.kcsatspringcommunity.search.controller;
+
+import hpclab.kcsatspringcommunity.exception.ApiResponse;
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import hpclab.kcsatspringcommunity.search.domain.SearchTarget;
+import hpclab.kcsatspringcommunity.search.dto.SearchResultForm;
+import hpclab.kcsatspringcommunity.search.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 게시글, 댓글, 문제 통합 검색 컨트롤러 클래스입니다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * 게시글 제목/본문, 댓글 본문, 문제 제목/지문을 한 번에 검색하는 메서드입니다.
+     * 검색 결과는 BM25 점수 순으로 정렬되며, 문제 유형별 검색 결과 수를 함께 반환합니다.
+     *
+     * @param keyword 검색어
+     * @param target 문서 종류 필터 (optional, POST/COMMENT/QUESTION)
+     * @param type 문제 유형 필터 (optional)
+     * @param page 페이지 번호 (기본값 0)
+     * @param size 페이지 크기 (기본값 10)
+     * @return 검색 결과 목록과 문제 유형별 검색 결과 수를 반환합니다.
+     */
+    @GetMapping("/api/community/open/search")
+    public ResponseEntity<ApiResponse<SearchResultForm>> search(@RequestParam String keyword,
+                                                                @RequestParam(required = false) SearchTarget target,
+                                                                @RequestParam(required = false) QuestionType type,
+                                                                @RequestParam(defaultValue = "0") int page,
+                                                                @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(new ApiResponse<>(true, searchService.search(keyword, target, type, page, size), null, null));
+    }
+}
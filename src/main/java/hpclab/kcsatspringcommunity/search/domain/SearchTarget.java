@@ -0,0 +1,22 @@
+package hpclab.kcsatspringcommunity.search.domain;
+
+/**
+ * 통합 검색 색인에 저장되는 문서 종류를 나타내는 열거형 클래스입니다.
+ */
+public enum SearchTarget {
+
+    /**
+     * 게시글 (제목, 본문)
+     */
+    POST,
+
+    /**
+     * 댓글 (본문)
+     */
+    COMMENT,
+
+    /**
+     * 문제 (제목, 지문)
+     */
+    QUESTION
+}
@@ -0,0 +1,61 @@
+package hpclab.kcsatspringcommunity.search.dto;
+
+import hpclab.kcsatspringcommunity.search.domain.SearchTarget;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통합 검색 결과 한 건을 반환하는 DTO 클래스입니다.
+ * 모든 값은 검색 색인에 저장된 값으로 채워지므로, 검색 시 DB를 조회하지 않습니다.
+ */
+@Data
+@AllArgsConstructor
+public class SearchHitForm {
+
+    /**
+     * 문서 종류 (게시글, 댓글, 문제)
+     */
+    private SearchTarget target;
+
+    /**
+     * 문서 ID (게시글 ID, 댓글 ID, 문제 ID)
+     */
+    private Long id;
+
+    /**
+     * 문서가 속한 게시글 ID (게시글, 댓글만 해당)
+     */
+    private Long pId;
+
+    /**
+     * 제목 (댓글은 null)
+     */
+    private String title;
+
+    /**
+     * 본문 앞부분 요약
+     */
+    private String snippet;
+
+    /**
+     * 작성자 이름 (문제는 null)
+     */
+    private String username;
+
+    /**
+     * 문제 유형 (문제가 첨부되지 않은 게시글, 댓글은 null)
+     */
+    private String questionType;
+
+    /**
+     * 작성 시간
+     */
+    private LocalDateTime createdDate;
+
+    /**
+     * BM25 검색 점수
+     */
+    private float score;
+}
@@ -0,0 +1,62 @@
+package hpclab.kcsatspringcommunity.search.dto;
+
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import hpclab.kcsatspringcommunity.search.domain.SearchTarget;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 변경 내용을 모든 서버에 전달하는 Redis Pub/Sub 메시지 DTO 클래스입니다.
+ * 각 서버는 메시지만으로 색인 문서를 만들 수 있으므로, 메시지를 받은 서버가 DB를 다시 조회하지 않습니다.
+ * JSON으로 주고받으므로 기본 생성자가 필요합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexMessage {
+
+    /**
+     * 색인 작업 종류 (INDEX: 추가/갱신, DELETE: 문서 삭제, DELETE_POST: 게시글과 게시글 댓글 삭제)
+     */
+    private Action action;
+
+    /**
+     * 문서 종류 (DELETE_POST는 null)
+     */
+    private SearchTarget target;
+
+    /**
+     * 문서 ID (DELETE_POST는 게시글 ID)
+     */
+    private Long id;
+
+    /**
+     * 문서가 속한 게시글 ID (게시글, 댓글만 해당)
+     */
+    private Long postId;
+
+    private String title;
+
+    private String content;
+
+    private String username;
+
+    private QuestionType questionType;
+
+    private LocalDateTime createdDate;
+
+    public enum Action {
+        INDEX, DELETE, DELETE_POST
+    }
+
+    public static SearchIndexMessage delete(SearchTarget target, Long id) {
+        return new SearchIndexMessage(Action.DELETE, target, id, null, null, null, null, null, null);
+    }
+
+    public static SearchIndexMessage deletePost(Long pId) {
+        return new SearchIndexMessage(Action.DELETE_POST, null, pId, null, null, null, null, null, null);
+    }
+}
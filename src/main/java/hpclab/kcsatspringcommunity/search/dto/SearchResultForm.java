@@ -0,0 +1,45 @@
+package hpclab.kcsatspringcommunity.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 통합 검색 결과 목록과 문제 유형별 검색 결과 수(facet)를 반환하는 DTO 클래스입니다.
+ */
+@Data
+@AllArgsConstructor
+public class SearchResultForm {
+
+    /**
+     * 검색 결과 목록 (BM25 점수 내림차순)
+     */
+    private List<SearchHitForm> hits;
+
+    /**
+     * 전체 검색 결과 수 (totalHitsLowerBound가 true라면 최소 결과 수)
+     */
+    private long totalHits;
+
+    /**
+     * 결과가 많아 전체 검색 결과 수를 끝까지 세지 않은 경우 true
+     */
+    private boolean totalHitsLowerBound;
+
+    /**
+     * 문제 유형별 검색 결과 수 (문제 유형 필터를 적용하기 전 기준, 결과가 있는 유형만 포함)
+     */
+    private Map<String, Long> typeCounts;
+
+    /**
+     * 페이지 번호
+     */
+    private int page;
+
+    /**
+     * 페이지 크기
+     */
+    private int size;
+}
@@ -0,0 +1,69 @@
+package hpclab.kcsatspringcommunity.search.service;
+
+import hpclab.kcsatspringcommunity.community.domain.Comment;
+import hpclab.kcsatspringcommunity.community.domain.Post;
+import hpclab.kcsatspringcommunity.question.domain.Question;
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import hpclab.kcsatspringcommunity.search.domain.SearchTarget;
+import hpclab.kcsatspringcommunity.search.dto.SearchResultForm;
+
+/**
+ * 게시글, 댓글, 문제 통합 검색 기능을 정의한 인터페이스입니다.
+ */
+public interface SearchService {
+
+    /**
+     * 게시글을 검색 색인에 추가하거나 갱신하는 메서드입니다.
+     * 트랜잭션 안에서 호출된 경우, 트랜잭션이 커밋된 후에 모든 서버의 색인에 반영합니다.
+     *
+     * @param post 게시글 객체 (작성자 정보를 조회할 수 있는 상태여야 합니다.)
+     */
+    void indexPost(Post post);
+
+    /**
+     * 게시글과 게시글에 달린 댓글을 검색 색인에서 삭제하는 메서드입니다.
+     *
+     * @param pId 게시글 ID
+     */
+    void removePost(Long pId);
+
+    /**
+     * 댓글을 검색 색인에 추가하는 메서드입니다.
+     *
+     * @param comment 댓글 객체 (작성자 정보를 조회할 수 있는 상태여야 합니다.)
+     */
+    void indexComment(Comment comment);
+
+    /**
+     * 댓글을 검색 색인에서 삭제하는 메서드입니다.
+     *
+     * @param cId 댓글 ID
+     */
+    void removeComment(Long cId);
+
+    /**
+     * 문제를 검색 색인에 추가하거나 갱신하는 메서드입니다.
+     *
+     * @param question 문제 객체
+     */
+    void indexQuestion(Question question);
+
+    /**
+     * 게시글, 댓글, 문제를 BM25 점수 순으로 통합 검색하는 메서드입니다.
+     * 검색은 색인만 사용하며 DB를 조회하지 않습니다.
+     *
+     * @param keyword 검색어
+     * @param target 문서 종류 필터 (optional)
+     * @param type 문제 유형 필터 (optional)
+     * @param page 페이지 번호 (0 ~ 100)
+     * @param size 페이지 크기 (1 ~ 50, 범위를 벗어나면 INVALID_INPUT)
+     * @return 검색 결과 목록과 문제 유형별 검색 결과 수를 반환합니다. 결과가 1000개를 넘으면 전체 결과 수는 하한값일 수 있습니다.
+     */
+    SearchResultForm search(String keyword, SearchTarget target, QuestionType type, int page, int size);
+
+    /**
+     * DB의 게시글, 댓글, 문제 전체로 이 서버의 검색 색인을 다시 만드는 메서드입니다.
+     * DB 데이터는 ID 순서로 나누어 읽어 새 디렉터리에 색인을 만든 뒤 기존 색인과 교체하므로, 만드는 동안에도 기존 색인으로 검색할 수 있습니다.
+     */
+    void rebuildIndex();
+}
@@ -0,0 +1,906 @@
+package hpclab.kcsatspringcommunity.search.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hpclab.kcsatspringcommunity.community.domain.Comment;
+import hpclab.kcsatspringcommunity.community.domain.Post;
+import hpclab.kcsatspringcommunity.community.repository.CommentRepository;
+import hpclab.kcsatspringcommunity.community.repository.PostRepository;
+import hpclab.kcsatspringcommunity.exception.ApiException;
+import hpclab.kcsatspringcommunity.exception.ErrorCode;
+import hpclab.kcsatspringcommunity.question.domain.Question;
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import hpclab.kcsatspringcommunity.question.repository.QuestionRepository;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import hpclab.kcsatspringcommunity.search.domain.SearchTarget;
+import hpclab.kcsatspringcommunity.search.dto.SearchHitForm;
+import hpclab.kcsatspringcommunity.search.dto.SearchIndexMessage;
+import hpclab.kcsatspringcommunity.search.dto.SearchResultForm;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanPartOfSpeechStopFilter;
+import org.apache.lucene.analysis.ko.KoreanTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Lucene 로컬 디스크 색인으로 게시글, 댓글, 문제 통합 검색을 구현한 클래스입니다.
+ *
+ * <p>한국어/영어가 섞인 수능 지문을 다루기 위해 Nori 형태소 분석기(복합명사는 원형과 분해 결과를 함께 색인)를 사용하며,
+ * 점수는 Lucene 기본 유사도인 BM25로 계산합니다.</p>
+ *
+ * <p>게시글, 댓글, 문제가 저장/수정/삭제될 때마다 트랜잭션 커밋 후 색인 변경 내용을 Redis Stream에 추가하고 Pub/Sub으로 모든 서버에 알리면,
+ * 각 서버가 마지막으로 반영한 위치 이후의 변경 내용을 Stream에서 읽어 자기 색인을 바로 갱신합니다(near real-time).
+ * 마지막으로 반영한 Stream ID는 색인 커밋 정보에 함께 기록하므로, 서버가 내려가 있는 동안 놓친 변경 내용도 다시 시작할 때 이어서 반영합니다.
+ * 디스크 커밋은 일정 주기마다 모아서 수행합니다. 검색 결과는 색인에 저장된 필드로만 만들어 DB를 조회하지 않습니다.</p>
+ *
+ * <p>서버 시작 시 색인이 비어 있거나, 색인 형식이 바뀌었거나, 놓친 변경 내용이 이미 Stream에서 잘려 나갔다면 DB 데이터로 색인을 새로 만듭니다.
+ * 새 색인은 별도 스레드에서 새 디렉터리에 만든 뒤 기존 색인과 교체하므로, 만드는 동안에도 기존 색인으로 검색할 수 있습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService, MessageListener {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final QuestionRepository questionRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 색인 재생성 스레드 풀 (ThreadPoolTaskExecutor Bean이 여러 개이므로 Bean 이름을 지정하여 주입)
+     */
+    @Qualifier("searchIndexExecutor")
+    private final ThreadPoolTaskExecutor searchIndexExecutor;
+
+    /**
+     * 검색 색인 저장 경로 (색인 세대별 하위 디렉터리와 현재 세대를 가리키는 CURRENT 파일을 둠)
+     */
+    @Value("${community.search.index-path:./search-index}")
+    private String indexPath;
+
+    /**
+     * 색인 변경 Stream 최대 길이 (대략적으로 잘라냄, 서버가 내려가 있는 동안 이보다 많이 변경되면 다시 시작할 때 색인을 새로 만듦)
+     */
+    @Value("${community.search.stream-max-length:100000}")
+    private long streamMaxLength;
+
+    /**
+     * 색인 필드 이름
+     */
+    private static final String UID = "uid";
+    private static final String TARGET = "target";
+    private static final String ID = "id";
+    private static final String POST_ID = "postId";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String SNIPPET = "snippet";
+    private static final String USERNAME = "username";
+    private static final String QUESTION_TYPE = "questionType";
+    private static final String CREATED_DATE = "createdDate";
+
+    /**
+     * 색인 형식 버전 (색인 커밋 정보에 기록하며, 다르다면 서버 시작 시 색인을 새로 만듦)
+     */
+    private static final String INDEX_VERSION_KEY = "indexVersion";
+    private static final String INDEX_VERSION = "2";
+
+    /**
+     * 마지막으로 반영한 색인 변경 Stream ID (색인 커밋 정보에 기록), Stream이 비어 있을 때의 시작 ID
+     */
+    private static final String STREAM_ID_KEY = "streamId";
+    private static final String INITIAL_STREAM_ID = "0-0";
+
+    /**
+     * 색인 변경 Stream 항목의 메시지 필드
+     */
+    private static final String STREAM_MESSAGE_FIELD = "message";
+
+    /**
+     * 색인 변경 Stream에서 한 번에 읽는 항목 수
+     */
+    private static final int CATCH_UP_BATCH_SIZE = 1000;
+
+    /**
+     * 현재 색인 세대 디렉터리 이름을 기록하는 파일, 색인 세대 디렉터리 이름 접두사
+     */
+    private static final String CURRENT_FILE = "CURRENT";
+    private static final String GENERATION_PREFIX = "index-";
+
+    /**
+     * 색인 재생성 시 DB에서 한 번에 가져오는 문서 수
+     */
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    /**
+     * 검색 한 페이지 최대 결과 수, 최대 페이지 번호
+     */
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_PAGE = 100;
+
+    /**
+     * 전체 검색 결과 수를 정확히 세는 최대 개수 (넘으면 결과 수를 하한값으로 반환)
+     */
+    private static final int TOTAL_HITS_THRESHOLD = 1000;
+
+    /**
+     * 검색 결과 본문 요약 길이
+     */
+    private static final int SNIPPET_LENGTH = 100;
+
+    /**
+     * 제목 일치 가중치
+     */
+    private static final float TITLE_BOOST = 2.0f;
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+
+    private Analyzer analyzer;
+
+    /**
+     * 현재 검색에 사용하는 색인 (재생성 후 교체)
+     */
+    private volatile SearchIndex index;
+
+    /**
+     * 색인 변경 반영, 디스크 커밋, 색인 교체를 한 번에 하나씩 실행하기 위한 잠금
+     */
+    private final Object indexLock = new Object();
+
+    /**
+     * 색인 재생성을 한 번에 하나씩 실행하기 위한 잠금
+     */
+    private final Object rebuildLock = new Object();
+
+    private volatile boolean closed = false;
+
+    /**
+     * 색인 세대 하나의 디렉터리, IndexWriter, SearcherManager와 마지막으로 반영한 Stream ID입니다.
+     */
+    private static class SearchIndex {
+
+        private final Path path;
+        private final Directory directory;
+        private final IndexWriter writer;
+        private final SearcherManager searcherManager;
+
+        /**
+         * 마지막으로 반영한 색인 변경 Stream ID (아직 정해지지 않았다면 null)
+         */
+        private String streamId;
+
+        SearchIndex(Path path, Analyzer analyzer, IndexWriterConfig.OpenMode openMode) throws IOException {
+            this.path = path;
+            this.directory = FSDirectory.open(path);
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(openMode));
+            this.searcherManager = new SearcherManager(writer, new SearcherFactory());
+            this.streamId = commitData(STREAM_ID_KEY);
+        }
+
+        String commitData(String key) {
+            for (Map.Entry<String, String> entry : writer.getLiveCommitData()) {
+                if (key.equals(entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+            return null;
+        }
+
+        void close() throws IOException {
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        }
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        analyzer = new KoreanAnalyzer(null, KoreanTokenizer.DecompoundMode.MIXED,
+                KoreanPartOfSpeechStopFilter.DEFAULT_STOP_TAGS, false);
+
+        Path root = Path.of(indexPath);
+        Files.createDirectories(root);
+
+        index = new SearchIndex(currentIndexPath(root), analyzer, IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        deleteStaleGenerations(root, index.path);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.SEARCH_INDEX_CHANNEL));
+    }
+
+    /**
+     * CURRENT 파일이 가리키는 색인 세대 디렉터리를 반환합니다.
+     * 처음 실행하는 경우(세대 디렉터리 도입 전 색인 포함) 빈 세대 디렉터리를 새로 정하고, 저장 경로에 바로 있던 이전 색인 파일은 삭제합니다.
+     */
+    private Path currentIndexPath(Path root) throws IOException {
+        Path pointer = root.resolve(CURRENT_FILE);
+        if (Files.exists(pointer)) {
+            Path current = root.resolve(Files.readString(pointer).trim());
+            if (Files.isDirectory(current)) {
+                return current;
+            }
+        }
+
+        try (Stream<Path> files = Files.list(root)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(IndexFileNames.SEGMENTS) || name.startsWith(IndexFileNames.PENDING_SEGMENTS)
+                        || name.equals(IndexWriter.WRITE_LOCK_NAME) || IndexFileNames.CODEC_FILE_PATTERN.matcher(name).matches()) {
+                    Files.delete(file);
+                }
+            }
+        }
+
+        Path current = newGenerationPath(root);
+        writeCurrent(root, current);
+        return current;
+    }
+
+    private Path newGenerationPath(Path root) {
+        return root.resolve(GENERATION_PREFIX + System.currentTimeMillis());
+    }
+
+    /**
+     * CURRENT 파일이 새 색인 세대 디렉터리를 가리키도록 바꿉니다. (임시 파일에 쓴 뒤 원자적으로 교체)
+     */
+    private void writeCurrent(Path root, Path current) throws IOException {
+        Path tmp = root.resolve(CURRENT_FILE + ".tmp");
+        Files.writeString(tmp, current.getFileName().toString());
+        Files.move(tmp, root.resolve(CURRENT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 교체되었거나 재생성 도중 중단되어 남은 이전 색인 세대 디렉터리를 삭제합니다.
+     */
+    private void deleteStaleGenerations(Path root, Path current) throws IOException {
+        try (Stream<Path> dirs = Files.list(root)) {
+            for (Path dir : dirs.filter(Files::isDirectory).toList()) {
+                if (dir.getFileName().toString().startsWith(GENERATION_PREFIX) && !dir.equals(current)) {
+                    IOUtils.rm(dir);
+                }
+            }
+        }
+    }
+
+    /**
+     * 서버 종료 시 남은 색인 변경 사항을 디스크에 커밋하고 색인을 닫습니다.
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        redisMessageListenerContainer.removeMessageListener(this);
+
+        synchronized (indexLock) {
+            closed = true;
+            index.close();
+        }
+        analyzer.close();
+    }
+
+    /**
+     * 색인 변경 사항을 주기적으로 디스크에 커밋합니다. (변경마다 fsync 하지 않도록 모아서 커밋)
+     * Pub/Sub 알림을 놓친 경우에 대비하여, 커밋 전에 Stream에서 놓친 변경 내용도 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${community.search.commit-interval-ms:5000}")
+    public void commit() {
+        catchUp();
+
+        synchronized (indexLock) {
+            try {
+                if (!closed && index.writer.hasUncommittedChanges()) {
+                    index.writer.commit();
+                }
+            } catch (IOException e) {
+                log.warn("search index commit failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 서버 시작 시 색인을 이어서 쓸 수 있다면 내려가 있는 동안 놓친 변경 내용을 Stream에서 반영하고,
+     * 색인이 비어 있거나, 색인 형식 버전이 다르거나, 놓친 변경 내용이 Stream에서 이미 잘려 나갔다면 별도 스레드에서 색인을 새로 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndexIfOutdated() {
+        synchronized (indexLock) {
+            SearchIndex current = index;
+
+            try {
+                if (current.writer.getDocStats().numDocs > 0 && INDEX_VERSION.equals(current.commitData(INDEX_VERSION_KEY))
+                        && current.streamId != null && canCatchUp(current.streamId)) {
+                    catchUp(current);
+                    return;
+                }
+
+                // 새 색인을 만드는 동안 들어오는 변경 내용은 기존 색인에도 계속 반영
+                if (current.streamId == null) {
+                    current.streamId = lastStreamId();
+                }
+            } catch (IOException | RuntimeException e) {
+                // Redis에 연결할 수 없다면 기존 색인으로 검색만 제공 (다시 시작할 때 이어서 반영하거나 새로 만듦)
+                log.error("search index catch-up failed: {}", e.getMessage());
+                return;
+            }
+        }
+
+        searchIndexExecutor.execute(() -> {
+            try {
+                rebuildIndex();
+            } catch (RuntimeException e) {
+                log.error("search index rebuild failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 마지막으로 반영한 변경 이후의 항목이 Stream에 모두 남아있는지 확인합니다.
+     * 마지막으로 반영한 항목이 Stream의 첫 항목보다 앞서 있다면, 그 사이 항목이 잘려 나갔을 수 있으므로 이어서 반영할 수 없습니다.
+     */
+    private boolean canCatchUp(String streamId) {
+        List<ByteRecord> first = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xRange(bytes(RedisKeyUtil.SEARCH_INDEX_STREAM), Range.unbounded(),
+                        org.springframework.data.redis.connection.Limit.limit().count(1)));
+
+        if (first == null || first.isEmpty()) {
+            return INITIAL_STREAM_ID.equals(streamId);
+        }
+        return compareStreamIds(first.get(0).getId().getValue(), streamId) <= 0;
+    }
+
+    /**
+     * @return Stream의 마지막 항목 ID를 반환합니다. (비어 있다면 INITIAL_STREAM_ID)
+     */
+    private String lastStreamId() {
+        List<ByteRecord> last = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xRevRange(bytes(RedisKeyUtil.SEARCH_INDEX_STREAM), Range.unbounded(),
+                        org.springframework.data.redis.connection.Limit.limit().count(1)));
+
+        return last == null || last.isEmpty() ? INITIAL_STREAM_ID : last.get(0).getId().getValue();
+    }
+
+    private static int compareStreamIds(String a, String b) {
+        RecordId x = RecordId.of(a);
+        RecordId y = RecordId.of(b);
+        int compared = Long.compare(x.getTimestamp(), y.getTimestamp());
+        return compared != 0 ? compared : Long.compare(x.getSequence(), y.getSequence());
+    }
+
+    /**
+     * 현재 색인에 Stream의 놓친 변경 내용을 반영합니다. 실패하면 다음 알림이나 다음 커밋 주기에 이어서 반영합니다.
+     */
+    private void catchUp() {
+        synchronized (indexLock) {
+            if (closed) {
+                return;
+            }
+            try {
+                catchUp(index);
+            } catch (IOException | RuntimeException e) {
+                log.warn("search index catch-up failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 색인에 마지막으로 반영한 Stream ID 이후의 변경 내용을 CATCH_UP_BATCH_SIZE개씩 읽어 순서대로 반영합니다.
+     * 반영한 위치는 색인 커밋 정보에 기록하여, 다음 디스크 커밋 때 색인 내용과 함께 저장합니다.
+     * 반영 위치 기록 전에 커밋된 변경은 다시 시작할 때 한 번 더 반영될 수 있지만, 같은 순서로 다시 반영하므로 결과는 같습니다.
+     */
+    private void catchUp(SearchIndex target) throws IOException {
+        if (target.streamId == null) {
+            return;
+        }
+
+        String from = target.streamId;
+        List<ByteRecord> records;
+
+        do {
+            String start = target.streamId;
+            records = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                    connection.streamCommands().xRange(bytes(RedisKeyUtil.SEARCH_INDEX_STREAM),
+                            Range.rightUnbounded(Range.Bound.inclusive(start)),
+                            org.springframework.data.redis.connection.Limit.limit().count(CATCH_UP_BATCH_SIZE)));
+            if (records == null) {
+                break;
+            }
+
+            for (ByteRecord record : records) {
+                String id = record.getId().getValue();
+                if (id.equals(target.streamId)) {
+                    continue;
+                }
+                try {
+                    for (byte[] value : record.getValue().values()) {
+                        apply(target, objectMapper.readValue(value, SearchIndexMessage.class));
+                    }
+                } catch (JsonProcessingException e) {
+                    log.warn("search index message {} skipped: {}", id, e.getMessage());
+                }
+                target.streamId = id;
+            }
+        } while (records.size() == CATCH_UP_BATCH_SIZE);
+
+        if (!from.equals(target.streamId)) {
+            target.writer.setLiveCommitData(commitData(target.streamId).entrySet());
+            target.searcherManager.maybeRefresh();
+        }
+    }
+
+    private Map<String, String> commitData(String streamId) {
+        return Map.of(INDEX_VERSION_KEY, INDEX_VERSION, STREAM_ID_KEY, streamId);
+    }
+
+    /**
+     * DB 데이터를 ID 순서로 REBUILD_BATCH_SIZE개씩 나누어 읽어 새 색인 세대 디렉터리에 색인을 만든 뒤, 현재 색인과 교체합니다.
+     * 배치마다 따로 조회하므로(트랜잭션 없음) 읽은 엔티티가 영속성 컨텍스트에 계속 쌓이지 않습니다.
+     *
+     * <p>DB를 읽기 전에 Stream의 마지막 위치를 기록해두고, 교체 직전에 그 이후의 변경 내용을 새 색인에 반영합니다.
+     * 만드는 동안에는 기존 색인으로 검색하며, 기존 색인도 계속 갱신합니다.</p>
+     */
+    @Override
+    public void rebuildIndex() {
+        synchronized (rebuildLock) {
+            Path root = Path.of(indexPath);
+            SearchIndex rebuilt = null;
+            boolean swapped = false;
+
+            try {
+                rebuilt = new SearchIndex(newGenerationPath(root), analyzer, IndexWriterConfig.OpenMode.CREATE);
+                rebuilt.streamId = lastStreamId();
+
+                SearchIndex target = rebuilt;
+                indexAll(target, postRepository::findAllWithMemberAfter, Post::getId, this::toMessage);
+                indexAll(target, commentRepository::findAllWithMemberAfter, Comment::getId, this::toMessage);
+                indexAll(target, questionRepository::findByIdGreaterThanOrderByIdAsc, Question::getId, this::toMessage);
+
+                synchronized (indexLock) {
+                    if (closed) {
+                        return;
+                    }
+
+                    catchUp(rebuilt);
+                    rebuilt.writer.setLiveCommitData(commitData(rebuilt.streamId).entrySet());
+                    rebuilt.writer.commit();
+                    rebuilt.searcherManager.maybeRefresh();
+
+                    writeCurrent(root, rebuilt.path);
+                    SearchIndex old = index;
+                    index = rebuilt;
+                    swapped = true;
+
+                    // 이전 색인으로 진행 중인 검색은 이미 연 reader로 마저 실행됨
+                    old.close();
+                    IOUtils.rm(old.path);
+                }
+
+                log.info("search index rebuilt: {} documents", rebuilt.writer.getDocStats().numDocs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                if (rebuilt != null && !swapped) {
+                    discard(rebuilt);
+                }
+            }
+        }
+    }
+
+    private void discard(SearchIndex rebuilt) {
+        try {
+            rebuilt.close();
+            IOUtils.rm(rebuilt.path);
+        } catch (IOException e) {
+            log.warn("search index cleanup failed: {}", e.getMessage());
+        }
+    }
+
+    private <T> void indexAll(SearchIndex target, BiFunction<Long, Limit, List<T>> finder, Function<T, Long> idOf,
+                              Function<T, SearchIndexMessage> toMessage) throws IOException {
+        Long lastId = 0L;
+        List<T> batch;
+
+        do {
+            batch = finder.apply(lastId, Limit.of(REBUILD_BATCH_SIZE));
+            for (T entity : batch) {
+                apply(target, toMessage.apply(entity));
+            }
+            if (!batch.isEmpty()) {
+                lastId = idOf.apply(batch.get(batch.size() - 1));
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+    }
+
+    @Override
+    public void indexPost(Post post) {
+        publishAfterCommit(toMessage(post));
+    }
+
+    @Override
+    public void removePost(Long pId) {
+        // 게시글 문서와 게시글에 달린 댓글 문서는 모두 postId 필드를 가지고 있으므로 한 번에 삭제
+        publishAfterCommit(SearchIndexMessage.deletePost(pId));
+    }
+
+    @Override
+    public void indexComment(Comment comment) {
+        publishAfterCommit(toMessage(comment));
+    }
+
+    @Override
+    public void removeComment(Long cId) {
+        publishAfterCommit(SearchIndexMessage.delete(SearchTarget.COMMENT, cId));
+    }
+
+    @Override
+    public void indexQuestion(Question question) {
+        publishAfterCommit(toMessage(question));
+    }
+
+    /**
+     * 다른 서버(자기 자신 포함)가 색인 변경 내용을 Stream에 추가했다는 알림을 받으면, 놓친 변경 내용까지 이 서버의 색인에 반영합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        catchUp();
+    }
+
+    @Override
+    public SearchResultForm search(String keyword, SearchTarget target, QuestionType type, int page, int size) {
+        Query textQuery = textQuery(keyword);
+        if (textQuery == null || page < 0 || page > MAX_SEARCH_PAGE || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new ApiException(ErrorCode.INVALID_INPUT);
+        }
+
+        Query targetQuery = filter(textQuery, target, null);
+        Query query = filter(textQuery, target, type);
+
+        SearchIndex current = index;
+        IndexSearcher searcher = null;
+        try {
+            searcher = current.searcherManager.acquire();
+
+            // 결과 수는 TOTAL_HITS_THRESHOLD개까지만 정확히 세고, 그 이후로는 경쟁력 없는 문서를 건너뛰도록 함 (결과 수는 하한값)
+            TopScoreDocCollector topCollector = TopScoreDocCollector.create((page + 1) * size, TOTAL_HITS_THRESHOLD);
+            QuestionTypeCountCollector typeCollector = new QuestionTypeCountCollector();
+
+            // 문제 유형 facet은 유형 필터를 적용하기 전 검색 결과 기준이므로, 유형 필터가 없다면 한 번의 검색으로 함께 셈
+            if (type == null) {
+                searcher.search(query, MultiCollector.wrap(topCollector, typeCollector));
+            }
+            else {
+                searcher.search(query, topCollector);
+                searcher.search(targetQuery, typeCollector);
+            }
+
+            TopDocs topDocs = topCollector.topDocs();
+            StoredFields storedFields = searcher.storedFields();
+
+            List<SearchHitForm> hits = new ArrayList<>();
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = page * size; i < scoreDocs.length; i++) {
+                hits.add(toSearchHitForm(storedFields.document(scoreDocs[i].doc), scoreDocs[i].score));
+            }
+
+            return new SearchResultForm(hits, topDocs.totalHits.value,
+                    topDocs.totalHits.relation == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO,
+                    typeCollector.getTypeCounts(), page, size);
+        } catch (IOException e) {
+            log.error("search failed: {}", e.getMessage());
+            throw new ApiException(ErrorCode.SEARCH_FAILED);
+        } finally {
+            release(current, searcher);
+        }
+    }
+
+    /**
+     * 검색어를 형태소 분석하여 제목(가중치 적용), 본문 중 하나라도 일치하는 문서를 찾는 쿼리를 만듭니다.
+     *
+     * @return 검색어에서 검색 가능한 단어가 나오지 않은 경우 null을 반환합니다.
+     */
+    private Query textQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        Query titleQuery = queryBuilder.createBooleanQuery(TITLE, keyword);
+        Query contentQuery = queryBuilder.createBooleanQuery(CONTENT, keyword);
+
+        if (titleQuery == null && contentQuery == null) {
+            return null;
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        if (titleQuery != null) {
+            builder.add(new BoostQuery(titleQuery, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        if (contentQuery != null) {
+            builder.add(contentQuery, BooleanClause.Occur.SHOULD);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 검색 쿼리에 문서 종류, 문제 유형 필터를 추가합니다. 필터는 점수 계산에 영향을 주지 않습니다.
+     */
+    private Query filter(Query query, SearchTarget target, QuestionType type) {
+        if (target == null && type == null) {
+            return query;
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(query, BooleanClause.Occur.MUST);
+        if (target != null) {
+            builder.add(new TermQuery(new Term(TARGET, target.name())), BooleanClause.Occur.FILTER);
+        }
+        if (type != null) {
+            builder.add(new TermQuery(new Term(QUESTION_TYPE, type.name())), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private SearchIndexMessage toMessage(Post post) {
+        return new SearchIndexMessage(SearchIndexMessage.Action.INDEX, SearchTarget.POST, post.getId(), post.getId(),
+                post.getPostTitle(), post.getPostContent(), post.getMember().getUsername(), post.getQuestionType(), post.getCreatedDate());
+    }
+
+    private SearchIndexMessage toMessage(Comment comment) {
+        return new SearchIndexMessage(SearchIndexMessage.Action.INDEX, SearchTarget.COMMENT, comment.getId(), comment.getPostId(),
+                null, comment.getContent(), comment.getMember().getUsername(), null, comment.getCreatedDate());
+    }
+
+    private SearchIndexMessage toMessage(Question question) {
+        return new SearchIndexMessage(SearchIndexMessage.Action.INDEX, SearchTarget.QUESTION, question.getId(), null,
+                question.getTitle(), question.getMainText(), null, question.getType(), question.getCreatedDate());
+    }
+
+    /**
+     * 색인 변경 내용을 색인에 반영합니다.
+     */
+    private void apply(SearchIndex target, SearchIndexMessage message) throws IOException {
+        switch (message.getAction()) {
+            case INDEX -> target.writer.updateDocument(uid(message.getTarget(), message.getId()), toDocument(message));
+            case DELETE -> target.writer.deleteDocuments(uid(message.getTarget(), message.getId()));
+            case DELETE_POST -> target.writer.deleteDocuments(new Term(POST_ID, String.valueOf(message.getId())));
+        }
+    }
+
+    private Document toDocument(SearchIndexMessage message) {
+        Document document = new Document();
+
+        document.add(new StringField(UID, uid(message.getTarget(), message.getId()).text(), Field.Store.NO));
+        document.add(new StringField(TARGET, message.getTarget().name(), Field.Store.YES));
+        document.add(new StoredField(ID, message.getId()));
+        if (message.getCreatedDate() != null) {
+            document.add(new StoredField(CREATED_DATE, message.getCreatedDate().atZone(ZONE_SEOUL).toInstant().toEpochMilli()));
+        }
+        if (message.getPostId() != null) {
+            document.add(new StringField(POST_ID, String.valueOf(message.getPostId()), Field.Store.YES));
+        }
+        if (message.getTitle() != null) {
+            document.add(new TextField(TITLE, message.getTitle(), Field.Store.YES));
+        }
+        addContent(document, message.getContent());
+        if (message.getUsername() != null) {
+            document.add(new StoredField(USERNAME, message.getUsername()));
+        }
+        if (message.getQuestionType() != null) {
+            // 필터용 색인 필드 + facet 집계용 DocValues
+            document.add(new StringField(QUESTION_TYPE, message.getQuestionType().name(), Field.Store.YES));
+            document.add(new SortedDocValuesField(QUESTION_TYPE, new BytesRef(message.getQuestionType().name())));
+        }
+        return document;
+    }
+
+    private void addContent(Document document, String content) {
+        document.add(new TextField(CONTENT, content, Field.Store.NO));
+        document.add(new StoredField(SNIPPET, content.length() > SNIPPET_LENGTH ? content.substring(0, SNIPPET_LENGTH) : content));
+    }
+
+    private SearchHitForm toSearchHitForm(Document document, float score) {
+        String postId = document.get(POST_ID);
+        Number createdDate = document.getField(CREATED_DATE) == null ? null : document.getField(CREATED_DATE).numericValue();
+
+        return new SearchHitForm(
+                SearchTarget.valueOf(document.get(TARGET)),
+                document.getField(ID).numericValue().longValue(),
+                postId == null ? null : Long.valueOf(postId),
+                document.get(TITLE),
+                document.get(SNIPPET),
+                document.get(USERNAME),
+                document.get(QUESTION_TYPE),
+                createdDate == null ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(createdDate.longValue()), ZONE_SEOUL),
+                score
+        );
+    }
+
+    private Term uid(SearchTarget target, Long id) {
+        return new Term(UID, target.name() + ":" + id);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 색인 변경 내용을 현재 트랜잭션이 커밋된 후에 Stream에 추가하고 모든 서버에 알립니다. 롤백된 데이터가 색인에 남지 않도록 하기 위함입니다.
+     * Stream 추가에 실패하면 이 서버의 색인에만 반영하며, 요청 자체는 실패시키지 않습니다. (색인 재생성으로 복구 가능)
+     * 알림에만 실패한 경우에는 각 서버가 다음 커밋 주기에 Stream에서 읽어 반영합니다.
+     */
+    private void publishAfterCommit(SearchIndexMessage message) {
+        Runnable runnable = () -> {
+            try {
+                byte[] body = objectMapper.writeValueAsBytes(message);
+                redisTemplate.execute((RedisCallback<RecordId>) connection -> connection.streamCommands().xAdd(
+                        StreamRecords.newRecord().in(bytes(RedisKeyUtil.SEARCH_INDEX_STREAM)).ofBytes(Map.of(bytes(STREAM_MESSAGE_FIELD), body)),
+                        RedisStreamCommands.XAddOptions.maxlen(streamMaxLength).approximateTrimming(true)));
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.warn("search index publish failed, apply locally: {}", e.getMessage());
+                synchronized (indexLock) {
+                    try {
+                        if (!closed) {
+                            apply(index, message);
+                            index.searcherManager.maybeRefresh();
+                        }
+                    } catch (IOException ex) {
+                        log.warn("search index update failed: {}", ex.getMessage());
+                    }
+                }
+                return;
+            }
+
+            try {
+                redisTemplate.convertAndSend(RedisKeyUtil.SEARCH_INDEX_CHANNEL, message.getAction().name());
+            } catch (RuntimeException e) {
+                log.warn("search index notify failed, catch up next commit: {}", e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        }
+        else {
+            runnable.run();
+        }
+    }
+
+    private void release(SearchIndex searchIndex, IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searchIndex.searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("search index searcher release failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 검색 결과를 문제 유형별로 세는 Collector입니다.
+     * 유형마다 count 쿼리를 따로 실행하지 않고, 한 번의 검색 중에 문제 유형 DocValues를 읽어 셉니다.
+     */
+    private static class QuestionTypeCountCollector extends SimpleCollector {
+
+        private final long[] counts = new long[QuestionType.values().length];
+
+        private SortedDocValues questionTypes;
+
+        /**
+         * 세그먼트별 DocValues 순번 -> QuestionType 순번
+         */
+        private int[] typeByOrd;
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            questionTypes = DocValues.getSorted(context.reader(), QUESTION_TYPE);
+            typeByOrd = new int[questionTypes.getValueCount()];
+            for (int ord = 0; ord < typeByOrd.length; ord++) {
+                typeByOrd[ord] = QuestionType.valueOf(questionTypes.lookupOrd(ord).utf8ToString()).ordinal();
+            }
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            if (questionTypes.advanceExact(doc)) {
+                counts[typeByOrd[questionTypes.ordValue()]]++;
+            }
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+
+        /**
+         * @return 결과가 있는 유형만 QuestionType 선언 순서대로 담아 반환합니다.
+         */
+        Map<String, Long> getTypeCounts() {
+            Map<String, Long> typeCounts = new LinkedHashMap<>();
+            for (QuestionType questionType : QuestionType.values()) {
+                if (counts[questionType.ordinal()] > 0) {
+                    typeCounts.put(questionType.name(), counts[questionType.ordinal()]);
+                }
+            }
+            return typeCounts;
+        }
+    }
+}
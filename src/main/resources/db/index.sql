@@ -0,0 +1,16 @@
+-- 운영 DB(ddl-auto: validate)에 수동으로 적용하는 인덱스 모음입니다.
+
+-- 게시판 커서 페이징 (created_date DESC, id DESC)
+CREATE INDEX IF NOT EXISTS idx_post_created_date_id ON post (created_date, id);
+CREATE INDEX IF NOT EXISTS idx_post_hot_created_date_id ON post (created_date, id) WHERE hot = true;
+
+-- 게시글 제목 검색 (ILIKE '%검색어%'를 trigram GIN 인덱스로 처리, similarity 정렬)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_post_title_trgm ON post USING gin (title gin_trgm_ops);
+
+-- 게시글 댓글 커서 페이징 (post_id = ? AND id > ? ORDER BY id)
+CREATE INDEX IF NOT EXISTS idx_comment_post_id_id ON comment (post_id, id);
+
+-- 게시글 댓글 수 (Redis 카운터를 주기적으로 반영, 기존 게시글은 한 번 채움)
+ALTER TABLE post ADD COLUMN IF NOT EXISTS comment_count BIGINT NOT NULL DEFAULT 0;
+UPDATE post p SET comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id);
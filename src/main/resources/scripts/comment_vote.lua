@@ -0,0 +1,26 @@
+-- 회원별 중복 체크 후 댓글 카운터 키를 1 증가시키고, 증가 직후의 추천/비추천수를 함께 반환합니다.
+-- 중복 체크, 증가, 추천/비추천수 조회가 하나의 원자적 연산으로 처리됩니다. (모든 키가 같은 {cId} 해시 태그)
+--
+-- KEYS[1]: 회원 중복 체크 키
+-- KEYS[2]: 증가시킬 카운터 키 (추천수 또는 비추천수 키)
+-- KEYS[3]: 댓글 추천수 키
+-- KEYS[4]: 댓글 비추천수 키
+-- ARGV[1]: 중복 체크 키 만료 시간(초)
+--
+-- 반환: {증가 여부(1: 증가, 0: 중복), 현재 카운터 값, 추천수 - 비추천수, 추천수 + 비추천수}
+-- 카운터는 증가만 하므로 추천수 + 비추천수는 댓글 투표마다 1씩 커지는 순번으로 사용할 수 있습니다.
+
+local added = 0
+local value
+
+if redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then
+    added = 1
+    value = redis.call('INCR', KEYS[2])
+else
+    value = tonumber(redis.call('GET', KEYS[2]) or '0')
+end
+
+local up = tonumber(redis.call('GET', KEYS[3]) or '0')
+local down = tonumber(redis.call('GET', KEYS[4]) or '0')
+
+return {added, value, up - down, up + down}
@@ -0,0 +1,15 @@
+-- 일별 방문 회원 Set에 회원 ID를 추가하고, 오늘 처음 방문한 회원이라면 게시글 카운터 Hash 필드를 1 증가시킵니다.
+-- 중복 체크와 증가가 하나의 원자적 연산으로 처리되며, 현재 카운터 값을 반환합니다.
+--
+-- KEYS[1]: 게시글 일별 방문 회원 Set 키
+-- KEYS[2]: 카운터 Hash 키
+-- ARGV[1]: 회원 ID
+-- ARGV[2]: 증가시킬 Hash 필드
+-- ARGV[3]: Set 만료 시간(초)
+
+if redis.call('SADD', KEYS[1], ARGV[1]) == 1 then
+    redis.call('EXPIRE', KEYS[1], ARGV[3])
+    return redis.call('HINCRBY', KEYS[2], ARGV[2], 1)
+end
+
+return tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0')
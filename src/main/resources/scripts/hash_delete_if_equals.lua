@@ -0,0 +1,18 @@
+-- Hash 필드 값이 읽어둔 값과 같을 때만 필드를 삭제합니다.
+-- 읽은 뒤 다른 요청이 값을 바꿨다면 삭제하지 않고 남겨두어, 바뀐 내용을 다음 처리에서 다시 다루도록 하기 위함입니다.
+--
+-- KEYS[1]: Hash 키
+-- ARGV[1], ARGV[2], ...: (필드, 읽어둔 값) 쌍
+--
+-- 반환: 삭제한 필드 수
+
+local deleted = 0
+
+for i = 1, #ARGV, 2 do
+    if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then
+        redis.call('HDEL', KEYS[1], ARGV[i])
+        deleted = deleted + 1
+    end
+end
+
+return deleted
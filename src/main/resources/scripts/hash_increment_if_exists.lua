@@ -0,0 +1,17 @@
+-- 카운터 Hash에 이미 존재하는 필드만 증가(감소)시킵니다.
+-- 아직 DB 값으로 초기화되지 않은 필드를 증감분만으로 만들어버리지 않도록 하기 위함입니다.
+--
+-- KEYS[1]: 카운터 Hash 키
+-- ARGV[1]: 증감 값
+-- ARGV[2..n]: 증감시킬 Hash 필드
+
+local updated = 0
+
+for i = 2, #ARGV do
+    if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then
+        redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[1])
+        updated = updated + 1
+    end
+end
+
+return updated
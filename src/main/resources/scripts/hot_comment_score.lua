@@ -0,0 +1,27 @@
+-- 게시글 인기 댓글 순위에 댓글 투표 하나를 반영합니다.
+-- 순위에 있는 댓글은 증감 값만큼 ZINCRBY 하고, 순위에 없던 댓글(기능 도입 전 댓글, 만료된 순위)은
+-- 이번 투표 직후 점수로 채운 뒤 그때의 투표 순번을 기록합니다.
+-- 채울 때의 점수에 이미 포함된 투표(순번이 기록된 순번 이하)가 늦게 도착하면 다시 더하지 않습니다.
+--
+-- KEYS[1]: 게시글 인기 댓글 Sorted Set 키
+-- KEYS[2]: 게시글 인기 댓글 점수를 채운 투표 순번 Hash 키
+-- ARGV[1]: 댓글 ID
+-- ARGV[2]: 증감 값 (추천 1, 비추천 -1)
+-- ARGV[3]: 이번 투표 순번 (투표 직후 추천수 + 비추천수)
+-- ARGV[4]: 이번 투표 직후 점수 (추천수 - 비추천수)
+--
+-- 반환: 반영 여부(1: 증감 또는 채움, 0: 이미 채운 점수에 포함된 투표)
+
+if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+    local seeded = redis.call('HGET', KEYS[2], ARGV[1])
+    if seeded and tonumber(ARGV[3]) <= tonumber(seeded) then
+        return 0
+    end
+
+    redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+    return 1
+end
+
+redis.call('ZADD', KEYS[1], ARGV[4], ARGV[1])
+redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+return 1
@@ -0,0 +1,21 @@
+-- 이전 문자열 카운터 키(post:viewCount:, post:upVote:, post:downVote:)의 값을 게시글 카운터 Hash에 한 번만 더합니다.
+-- 옮긴 추천/비추천수는 장부에 없는 이전 투표이므로 별도 필드에 남겨, 장부로 다시 계산할 때 함께 더합니다.
+-- 이 필드가 이미 있다면 옮긴 게시글이므로, 여러 서버가 동시에 실행하거나 다시 실행해도 두 번 더해지지 않습니다.
+--
+-- KEYS[1]: 게시글 카운터 Hash 키
+-- ARGV[1]: 조회수 필드, ARGV[2]: 추천수 필드, ARGV[3]: 비추천수 필드
+-- ARGV[4]: 이전 추천수 필드, ARGV[5]: 이전 비추천수 필드
+-- ARGV[6]: 이전 조회수, ARGV[7]: 이전 추천수, ARGV[8]: 이전 비추천수
+--
+-- 반환: 반영 여부(1: 반영, 0: 이미 옮긴 게시글)
+
+if redis.call('HSETNX', KEYS[1], ARGV[4], ARGV[7]) == 0 then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], ARGV[5], ARGV[8])
+redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[6])
+redis.call('HINCRBY', KEYS[1], ARGV[2], ARGV[7])
+redis.call('HINCRBY', KEYS[1], ARGV[3], ARGV[8])
+
+return 1
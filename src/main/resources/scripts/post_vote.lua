@@ -0,0 +1,36 @@
+-- 게시글 추천 장부(회원 ID -> 1/-1)에 회원의 투표를 기록하고, 추천/비추천 합계를 함께 갱신합니다.
+-- 같은 투표를 다시 하면 아무것도 바뀌지 않고, 다른 투표로 바꾸면 이전 투표 합계를 되돌립니다.
+-- 갱신 후 {변경 여부(1: 변경, 0: 같은 투표), 추천수, 비추천수}를 반환합니다.
+--
+-- KEYS[1]: 게시글 추천 장부 Hash 키
+-- KEYS[2]: 게시글 카운터 Hash 키
+-- ARGV[1]: 회원 ID
+-- ARGV[2]: 투표 값 ('1': 추천, '-1': 비추천)
+-- ARGV[3]: 추천수 필드
+-- ARGV[4]: 비추천수 필드
+
+local prev = redis.call('HGET', KEYS[1], ARGV[1])
+local changed = 0
+
+if prev ~= ARGV[2] then
+    changed = 1
+    redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+
+    if prev == '1' then
+        redis.call('HINCRBY', KEYS[2], ARGV[3], -1)
+    elseif prev == '-1' then
+        redis.call('HINCRBY', KEYS[2], ARGV[4], -1)
+    end
+
+    if ARGV[2] == '1' then
+        redis.call('HINCRBY', KEYS[2], ARGV[3], 1)
+    else
+        redis.call('HINCRBY', KEYS[2], ARGV[4], 1)
+    end
+end
+
+return {
+    changed,
+    tonumber(redis.call('HGET', KEYS[2], ARGV[3]) or '0'),
+    tonumber(redis.call('HGET', KEYS[2], ARGV[4]) or '0')
+}
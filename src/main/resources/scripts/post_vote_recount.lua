@@ -0,0 +1,36 @@
+-- 게시글 추천 장부를 기준으로 추천/비추천 합계를 다시 계산하여, 카운터와 다르다면 덮어씁니다.
+-- 장부 도입 전 투표(카운터 Hash의 이전 추천/비추천수 필드)도 함께 더합니다.
+-- 카운터 Hash가 없는 게시글은 건드리지 않습니다.
+-- 갱신 후 {변경 여부(1: 보정, 0: 그대로), 추천수, 비추천수}를 반환합니다.
+--
+-- KEYS[1]: 게시글 추천 장부 Hash 키
+-- KEYS[2]: 게시글 카운터 Hash 키
+-- ARGV[1]: 추천수 필드
+-- ARGV[2]: 비추천수 필드
+-- ARGV[3]: 이전 추천수 필드
+-- ARGV[4]: 이전 비추천수 필드
+
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    return { 0, 0, 0 }
+end
+
+local up = tonumber(redis.call('HGET', KEYS[2], ARGV[3]) or '0')
+local down = tonumber(redis.call('HGET', KEYS[2], ARGV[4]) or '0')
+
+for _, vote in ipairs(redis.call('HVALS', KEYS[1])) do
+    if vote == '1' then
+        up = up + 1
+    elseif vote == '-1' then
+        down = down + 1
+    end
+end
+
+local changed = 0
+
+if tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') ~= up
+        or tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0') ~= down then
+    changed = 1
+    redis.call('HSET', KEYS[2], ARGV[1], up, ARGV[2], down)
+end
+
+return { changed, up, down }
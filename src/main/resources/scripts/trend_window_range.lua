@@ -0,0 +1,20 @@
+-- 실시간 인기 문제 구간 합산 결과가 없다면 구간 버킷들을 합산하여 저장하고 유지 시간을 설정한 뒤,
+-- 합산 결과에서 상위 문제 ID를 점수 내림차순으로 반환합니다.
+-- 합산과 유지 시간 설정을 한 번에 처리하므로, 유지 시간 없는 합산 결과가 남지 않습니다.
+--
+-- KEYS[1]: 구간 합산 결과 Sorted Set 키
+-- KEYS[2..]: 구간 버킷 Sorted Set 키 목록
+-- ARGV[1]: 합산 결과 유지 시간(초)
+-- ARGV[2]: 반환할 문제 수
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    local buckets = {}
+    for i = 2, #KEYS do
+        buckets[#buckets + 1] = KEYS[i]
+    end
+
+    redis.call('ZUNIONSTORE', KEYS[1], #buckets, unpack(buckets))
+    redis.call('EXPIRE', KEYS[1], ARGV[1])
+end
+
+return redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[2]) - 1)
@@ -0,0 +1,19 @@
+-- 서버가 모아둔 게시글 조회 회원들을 일별 조회 회원 Set에 한 번에 추가하고, 새로 추가된 회원 수만큼 카운터 Hash 필드를 증가시킵니다.
+-- 이미 Set에 있는 회원은 세지 않으므로, 다른 서버에서 먼저 반영했거나 실패 후 같은 배치를 다시 보내도 두 번 반영되지 않습니다.
+--
+-- KEYS[1]: 게시글 일별 조회 회원 Set 키
+-- KEYS[2]: 카운터 Hash 키
+-- ARGV[1]: 증가시킬 Hash 필드
+-- ARGV[2]: Set 만료 시간(초)
+-- ARGV[3], ARGV[4], ...: 회원 ID
+--
+-- 반환: 새로 추가된 회원 수
+
+local added = redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+
+if added > 0 then
+    redis.call('EXPIRE', KEYS[1], ARGV[2])
+    redis.call('HINCRBY', KEYS[2], ARGV[1], added)
+end
+
+return added
@@ -0,0 +1,106 @@
+package hpclab.kcsatspringcommunity.community.repository;
+
+import hpclab.kcsatspringcommunity.community.dto.PostSummaryForm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커서 조건((created_date, id) 행 값 비교)이 실제 PostgreSQL에서 작성 시간이 같은 게시글 경계를 올바르게 넘기는지 확인합니다.
+ */
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostRepositoryCustomImplTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    private static final LocalDateTime SAME_DATE = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // comment_count는 엔티티로 쓰지 않는 컬럼이므로, 운영 DB(index.sql)와 같이 기본값을 둠
+        jdbcTemplate.execute("ALTER TABLE post ALTER COLUMN comment_count SET DEFAULT 0");
+        jdbcTemplate.update("INSERT INTO member (id, role, email, name, password, created_date) VALUES (1, 0, 'a@a.com', 'a', 'pw', ?)", SAME_DATE);
+
+        // 1, 2: 더 오래된 게시글 / 3, 4, 5: 작성 시간이 같은 게시글 / 6: 최신 게시글
+        insertPost(1L, SAME_DATE.minusDays(2), false);
+        insertPost(2L, SAME_DATE.minusDays(1), true);
+        insertPost(3L, SAME_DATE, false);
+        insertPost(4L, SAME_DATE, true);
+        insertPost(5L, SAME_DATE, false);
+        insertPost(6L, SAME_DATE.plusDays(1), true);
+    }
+
+    @Test
+    void 작성_시간이_같은_게시글_사이에서_페이지가_나뉘어도_빠짐없이_중복없이_조회한다() {
+        List<PostSummaryForm> first = postRepository.findPostsByCursor(null, null, 2, null, null, false);
+        assertThat(ids(first)).containsExactly(6L, 5L, 4L);
+
+        // 두 번째 페이지의 커서가 작성 시간이 같은 게시글(5) 한가운데에 걸림
+        PostSummaryForm last = first.get(1);
+        List<PostSummaryForm> second = postRepository.findPostsByCursor(last.getPostDate(), last.getPId(), 2, null, null, false);
+        assertThat(ids(second)).containsExactly(4L, 3L, 2L);
+
+        last = second.get(1);
+        List<PostSummaryForm> third = postRepository.findPostsByCursor(last.getPostDate(), last.getPId(), 2, null, null, false);
+        assertThat(ids(third)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 커서와_같은_게시글은_다음_페이지에_포함하지_않는다() {
+        List<PostSummaryForm> page = postRepository.findPostsByCursor(SAME_DATE, 3L, 10, null, null, false);
+
+        assertThat(ids(page)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 인기_게시글_커서_조회도_작성_시간이_같은_경계를_넘긴다() {
+        List<PostSummaryForm> first = postRepository.findPostsByCursor(null, null, 1, null, null, true);
+        assertThat(ids(first)).containsExactly(6L, 4L);
+
+        List<PostSummaryForm> second = postRepository.findPostsByCursor(SAME_DATE, 5L, 1, null, null, true);
+        assertThat(ids(second)).containsExactly(4L, 2L);
+    }
+
+    private void insertPost(Long id, LocalDateTime createdDate, boolean hot) {
+        jdbcTemplate.update("INSERT INTO post (id, title, content, member_id, hot, created_date) VALUES (?, ?, ?, 1, ?, ?)",
+                id, "title" + id, "content" + id, hot, createdDate);
+    }
+
+    private List<Long> ids(List<PostSummaryForm> posts) {
+        List<Long> ids = new ArrayList<>();
+        posts.forEach(post -> ids.add(post.getPId()));
+        return ids;
+    }
+}
@@ -0,0 +1,97 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.community.repository.CommentRepository;
+import hpclab.kcsatspringcommunity.live.service.PostLivePublisher;
+import hpclab.kcsatspringcommunity.redis.RedisContainerTest;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import hpclab.kcsatspringcommunity.redis.RedisScriptUtil;
+import hpclab.kcsatspringcommunity.search.service.SearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CommentServiceImplTest extends RedisContainerTest {
+
+    private static final Long P_ID = 1L;
+    private static final Long C_ID = 10L;
+
+    private CommentServiceImpl commentService;
+
+    @BeforeEach
+    void setUp() {
+        CommentRepository commentRepository = mock(CommentRepository.class);
+        when(commentRepository.findPostIdById(C_ID)).thenReturn(Optional.of(P_ID));
+
+        commentService = new CommentServiceImpl(
+                mock(MemberService.class),
+                commentRepository,
+                mock(SearchService.class),
+                mock(PostCommentCountService.class),
+                mock(PostLivePublisher.class),
+                redisTemplate
+        );
+    }
+
+    @Test
+    void 순위에_없는_댓글은_카운터_기준_점수로_채워진다() {
+        redisTemplate.opsForValue().set(RedisKeyUtil.commentUpVote(C_ID), "4");
+        redisTemplate.opsForValue().set(RedisKeyUtil.commentDownVote(C_ID), "1");
+
+        commentService.increaseCommentCount(C_ID, "user@test.com");
+
+        assertThat(hotCommentScore()).isEqualTo(4.0);
+    }
+
+    @Test
+    void 순위에_있는_댓글은_증감분만_반영된다() {
+        redisTemplate.opsForValue().set(RedisKeyUtil.commentUpVote(C_ID), "4");
+        redisTemplate.opsForZSet().add(RedisKeyUtil.postHotComment(P_ID), String.valueOf(C_ID), 3);
+
+        commentService.increaseCommentCount(C_ID, "user@test.com");
+        commentService.decreaseCommentCount(C_ID, "other@test.com");
+
+        assertThat(hotCommentScore()).isEqualTo(3.0);
+    }
+
+    @Test
+    void 중복_추천은_점수를_바꾸지_않는다() {
+        commentService.increaseCommentCount(C_ID, "user@test.com");
+        commentService.increaseCommentCount(C_ID, "user@test.com");
+
+        assertThat(redisTemplate.opsForValue().get(RedisKeyUtil.commentUpVote(C_ID))).isEqualTo("1");
+        assertThat(hotCommentScore()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 채운_점수에_이미_포함된_투표가_늦게_도착하면_다시_더하지_않는다() {
+        redisTemplate.opsForValue().set(RedisKeyUtil.commentUpVote(C_ID), "4");
+        redisTemplate.opsForValue().set(RedisKeyUtil.commentDownVote(C_ID), "1");
+
+        // 순번 6인 투표가 먼저 점수를 채움 (추천 5, 비추천 1)
+        commentService.increaseCommentCount(C_ID, "user@test.com");
+        assertThat(hotCommentScore()).isEqualTo(4.0);
+
+        // 순번 5인 투표가 늦게 도착
+        Long applied = redisTemplate.execute(RedisScriptUtil.HOT_COMMENT_SCORE,
+                List.of(RedisKeyUtil.postHotComment(P_ID), RedisKeyUtil.postHotCommentSeeded(P_ID)),
+                String.valueOf(C_ID), "1.0", "5", "3");
+
+        assertThat(applied).isZero();
+        assertThat(hotCommentScore()).isEqualTo(4.0);
+
+        // 채운 뒤의 투표는 증감분만 반영
+        commentService.decreaseCommentCount(C_ID, "other@test.com");
+
+        assertThat(hotCommentScore()).isEqualTo(3.0);
+    }
+
+    private Double hotCommentScore() {
+        return redisTemplate.opsForZSet().score(RedisKeyUtil.postHotComment(P_ID), String.valueOf(C_ID));
+    }
+}
@@ -0,0 +1,142 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.community.repository.PostRepository;
+import hpclab.kcsatspringcommunity.redis.RedisContainerTest;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HotPostServiceImplTest extends RedisContainerTest {
+
+    private static final Long P_ID = 1L;
+
+    private PostRepository postRepository;
+
+    private HotPostServiceImpl hotPostService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        when(postRepository.findQuestionTypeById(P_ID)).thenReturn(Optional.empty());
+
+        hotPostService = new HotPostServiceImpl(postRepository, redisTemplate);
+        ReflectionTestUtils.setField(hotPostService, "hotThreshold", 20L);
+        ReflectionTestUtils.setField(hotPostService, "coldAfterHours", 72L);
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void 기준_미만_게시글은_인기도_점수에_넣지_않는다() {
+        hotPostService.updateHotness(P_ID, 19);
+
+        assertThat(redisTemplate.opsForZSet().score(RedisKeyUtil.postHotScore(), String.valueOf(P_ID))).isNull();
+        assertThat(hotFlag()).isNull();
+    }
+
+    @Test
+    void 커밋되면_인기_게시판에_올린다() {
+        hotPostService.updateHotness(P_ID, 20);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(hotFlag()).isEqualTo("NONE");
+        assertThat(redisTemplate.opsForZSet().score(RedisKeyUtil.postHotBoard(), String.valueOf(P_ID))).isNotNull();
+    }
+
+    @Test
+    void 롤백되면_비어있는_플래그를_지워_다시_지정될_수_있다() {
+        hotPostService.updateHotness(P_ID, 20);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(hotFlag()).isNull();
+        assertThat(redisTemplate.opsForZSet().score(RedisKeyUtil.postHotBoard(), String.valueOf(P_ID))).isNull();
+
+        // 다음 추천에서 다시 인기 게시글로 지정
+        hotPostService.updateHotness(P_ID, 21);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(hotFlag()).isEqualTo("NONE");
+    }
+
+    @Test
+    void 식은_게시글은_커밋된_후에_인기_게시판에서_내린다() {
+        hotPostService.updateHotness(P_ID, 20);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        redisTemplate.opsForZSet().add(RedisKeyUtil.postHotScore(), String.valueOf(P_ID), 0);
+
+        hotPostService.demoteColdPosts();
+
+        verify(postRepository).updateHotPost(List.of(P_ID), false);
+        assertThat(redisTemplate.opsForZSet().score(RedisKeyUtil.postHotBoard(), String.valueOf(P_ID))).isNotNull();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(redisTemplate.opsForZSet().score(RedisKeyUtil.postHotScore(), String.valueOf(P_ID))).isNull();
+        assertThat(redisTemplate.opsForZSet().score(RedisKeyUtil.postHotBoard(), String.valueOf(P_ID))).isNull();
+        assertThat(hotFlag()).isNull();
+    }
+
+    @Test
+    void 해제가_롤백되면_인기_게시판에_남겨둔다() {
+        hotPostService.updateHotness(P_ID, 20);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        redisTemplate.opsForZSet().add(RedisKeyUtil.postHotScore(), String.valueOf(P_ID), 0);
+
+        hotPostService.demoteColdPosts();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(redisTemplate.opsForZSet().score(RedisKeyUtil.postHotScore(), String.valueOf(P_ID))).isNotNull();
+        assertThat(redisTemplate.opsForZSet().score(RedisKeyUtil.postHotBoard(), String.valueOf(P_ID))).isNotNull();
+        assertThat(hotFlag()).isEqualTo("NONE");
+    }
+
+    @Test
+    void 다시_채운_오래된_인기_게시글은_해제하지_않는다() {
+        when(postRepository.findHotPostSummaries()).thenReturn(List.<Object[]>of(
+                new Object[]{P_ID, null, LocalDateTime.now().minusDays(30)}));
+
+        hotPostService.rebuildHotBoard();
+        hotPostService.demoteColdPosts();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(postRepository, never()).updateHotPost(anyList(), eq(false));
+        assertThat(redisTemplate.opsForZSet().score(RedisKeyUtil.postHotBoard(), String.valueOf(P_ID))).isNotNull();
+        assertThat(hotFlag()).isEqualTo("NONE");
+
+        // 다음 추천부터는 인기도 점수로 해제 여부를 판단
+        hotPostService.updateHotness(P_ID, 21);
+
+        assertThat(redisTemplate.opsForZSet().score(RedisKeyUtil.postHotScore(), String.valueOf(P_ID))).isNotNull();
+    }
+
+    private void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private Object hotFlag() {
+        return redisTemplate.opsForHash().get(RedisKeyUtil.postCount(P_ID), RedisKeyUtil.POST_HOT);
+    }
+}
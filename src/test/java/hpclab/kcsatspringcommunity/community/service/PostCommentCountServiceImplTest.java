@@ -0,0 +1,108 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.community.repository.CommentRepository;
+import hpclab.kcsatspringcommunity.community.repository.PostRepository;
+import hpclab.kcsatspringcommunity.redis.RedisContainerTest;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostCommentCountServiceImplTest extends RedisContainerTest {
+
+    private static final Long P_ID = 1L;
+
+    private PostRepository postRepository;
+
+    private PostCommentCountServiceImpl postCommentCountService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        postCommentCountService = new PostCommentCountServiceImpl(
+                postRepository,
+                mock(CommentRepository.class),
+                redisTemplate,
+                new TransactionTemplate(transactionManager)
+        );
+
+        redisTemplate.opsForHash().put(RedisKeyUtil.postCount(P_ID), RedisKeyUtil.POST_COMMENT_COUNT, "3");
+    }
+
+    @Test
+    void 반영한_게시글은_변경_목록에서_지운다() {
+        postCommentCountService.increaseCommentCount(P_ID);
+
+        postCommentCountService.persistCommentCounts();
+
+        verify(postRepository).updateCommentCount(P_ID, 4L);
+        assertThat(changedVersion()).isNull();
+    }
+
+    @Test
+    void 반영에_실패한_게시글은_변경_목록에_남는다() {
+        when(postRepository.updateCommentCount(anyLong(), anyLong())).thenThrow(new QueryTimeoutException("timeout"));
+        postCommentCountService.increaseCommentCount(P_ID);
+
+        postCommentCountService.persistCommentCounts();
+
+        assertThat(changedVersion()).isEqualTo("1");
+    }
+
+    @Test
+    void 반영_도중_다시_바뀐_게시글은_변경_목록에_남는다() {
+        postCommentCountService.increaseCommentCount(P_ID);
+        when(postRepository.updateCommentCount(eq(P_ID), anyLong())).thenAnswer(invocation -> {
+            // DB 반영 중에 댓글이 하나 더 달린 상황
+            postCommentCountService.increaseCommentCount(P_ID);
+            return 1;
+        });
+
+        postCommentCountService.persistCommentCounts();
+
+        assertThat(changedVersion()).isEqualTo("2");
+        assertThat(redisTemplate.opsForHash().get(RedisKeyUtil.postCount(P_ID), RedisKeyUtil.POST_COMMENT_COUNT)).isEqualTo("5");
+    }
+
+    @Test
+    void 어긋난_댓글_수는_실제_값으로_보정한다() {
+        when(postRepository.findCommentCountsAfter(0L, 500)).thenReturn(List.<Object[]>of(new Object[]{P_ID, 2L, 4L}));
+
+        postCommentCountService.reconcileCommentCounts();
+
+        verify(postRepository).updateCommentCount(P_ID, 4L);
+        assertThat(redisTemplate.opsForHash().get(RedisKeyUtil.postCount(P_ID), RedisKeyUtil.POST_COMMENT_COUNT)).isNull();
+    }
+
+    @Test
+    void 맞는_댓글_수는_그대로_둔다() {
+        when(postRepository.findCommentCountsAfter(0L, 500)).thenReturn(List.<Object[]>of(new Object[]{P_ID, 3L, 3L}));
+
+        postCommentCountService.reconcileCommentCounts();
+
+        verify(postRepository, never()).updateCommentCount(anyLong(), anyLong());
+        assertThat(redisTemplate.opsForHash().get(RedisKeyUtil.postCount(P_ID), RedisKeyUtil.POST_COMMENT_COUNT)).isEqualTo("3");
+    }
+
+    private Object changedVersion() {
+        return redisTemplate.opsForHash().get(RedisKeyUtil.postCommentCountChanged(), String.valueOf(P_ID));
+    }
+}
@@ -0,0 +1,67 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.community.repository.PostRepository;
+import hpclab.kcsatspringcommunity.redis.RedisContainerTest;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostCountMigrationTest extends RedisContainerTest {
+
+    private PostCountMigration postCountMigration;
+
+    @BeforeEach
+    void setUp() {
+        PostRepository postRepository = mock(PostRepository.class);
+        when(postRepository.findIdsAfter(eq(0L), any(Limit.class))).thenReturn(List.of(1L, 2L));
+        when(postRepository.findIdsAfter(eq(2L), any(Limit.class))).thenReturn(List.of());
+
+        postCountMigration = new PostCountMigration(postRepository, redisTemplate);
+        ReflectionTestUtils.setField(postCountMigration, "enabled", true);
+    }
+
+    @Test
+    void 이전_카운터_키를_카운터_Hash에_더하고_삭제한다() {
+        redisTemplate.opsForValue().set(RedisKeyUtil.legacyPostViewCount(1L), "10");
+        redisTemplate.opsForValue().set(RedisKeyUtil.legacyPostUpVote(1L), "4");
+        redisTemplate.opsForValue().set(RedisKeyUtil.legacyPostDownVote(1L), "1");
+        // 배포 후 새로 쌓인 카운터는 유지
+        redisTemplate.opsForHash().put(RedisKeyUtil.postCount(1L), RedisKeyUtil.POST_UP_VOTE, "2");
+
+        postCountMigration.migrateLegacyPostCounts();
+
+        Map<Object, Object> counts = redisTemplate.opsForHash().entries(RedisKeyUtil.postCount(1L));
+        assertThat(counts).containsEntry(RedisKeyUtil.POST_VIEW_COUNT, "10")
+                .containsEntry(RedisKeyUtil.POST_UP_VOTE, "6")
+                .containsEntry(RedisKeyUtil.POST_DOWN_VOTE, "1")
+                .containsEntry(RedisKeyUtil.POST_LEGACY_UP_VOTE, "4")
+                .containsEntry(RedisKeyUtil.POST_LEGACY_DOWN_VOTE, "1");
+        assertThat(redisTemplate.hasKey(RedisKeyUtil.legacyPostViewCount(1L))).isFalse();
+        assertThat(redisTemplate.hasKey(RedisKeyUtil.postCount(2L))).isFalse();
+    }
+
+    @Test
+    void 이전_키_삭제_전에_실패하여_다시_실행해도_두_번_더하지_않는다() {
+        redisTemplate.opsForValue().set(RedisKeyUtil.legacyPostViewCount(1L), "10");
+        postCountMigration.migrateLegacyPostCounts();
+
+        // 이전 키가 남아있는 상태로 다시 실행
+        redisTemplate.opsForValue().set(RedisKeyUtil.legacyPostViewCount(1L), "10");
+        redisTemplate.delete(RedisKeyUtil.postCountMigrated());
+        postCountMigration.migrateLegacyPostCounts();
+
+        assertThat(redisTemplate.opsForHash().get(RedisKeyUtil.postCount(1L), RedisKeyUtil.POST_VIEW_COUNT)).isEqualTo("10");
+        assertThat(redisTemplate.hasKey(RedisKeyUtil.legacyPostViewCount(1L))).isFalse();
+    }
+}
@@ -0,0 +1,124 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.community.dto.PostCountForm;
+import hpclab.kcsatspringcommunity.community.repository.PostRepository;
+import hpclab.kcsatspringcommunity.live.service.PostLivePublisher;
+import hpclab.kcsatspringcommunity.myBook.service.BookQuestionService;
+import hpclab.kcsatspringcommunity.question.service.QuestionService;
+import hpclab.kcsatspringcommunity.redis.RedisContainerTest;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import hpclab.kcsatspringcommunity.search.service.SearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostServiceImplTest extends RedisContainerTest {
+
+    private static final Long P_ID = 1L;
+    private static final String USER = "user@test.com";
+    private static final String OTHER = "other@test.com";
+
+    private HotPostService hotPostService;
+
+    private PostServiceImpl postService;
+
+    @BeforeEach
+    void setUp() {
+        MemberService memberService = mock(MemberService.class);
+        when(memberService.findMemberIdByEmail(USER)).thenReturn(100L);
+        when(memberService.findMemberIdByEmail(OTHER)).thenReturn(200L);
+
+        hotPostService = mock(HotPostService.class);
+
+        postService = new PostServiceImpl(
+                mock(PostRepository.class),
+                memberService,
+                mock(QuestionService.class),
+                mock(BookQuestionService.class),
+                hotPostService,
+                mock(PostTotalService.class),
+                mock(SearchService.class),
+                redisTemplate,
+                new PostViewCountBuffer(redisTemplate),
+                mock(PostLivePublisher.class)
+        );
+        postService.setPostCount(P_ID);
+    }
+
+    @Test
+    void 같은_투표를_반복하면_합계가_바뀌지_않는다() {
+        assertThat(postService.increasePostVoteCount(P_ID, USER)).isEqualTo("1");
+        assertThat(postService.increasePostVoteCount(P_ID, USER)).isEqualTo("1");
+
+        // 같은 추천을 반복한 경우에는 인기도 점수를 한 번만 갱신
+        verify(hotPostService, times(1)).updateHotness(P_ID, 1L);
+
+        assertThat(postService.decreasePostVoteCount(P_ID, OTHER)).isEqualTo("1");
+        assertThat(postService.decreasePostVoteCount(P_ID, OTHER)).isEqualTo("1");
+
+        assertThat(voteCounts()).containsExactly(1L, 1L);
+        verify(hotPostService, times(2)).updateHotness(P_ID, 1L);
+    }
+
+    @Test
+    void 추천에서_비추천으로_바꾸면_추천이_옮겨간다() {
+        postService.increasePostVoteCount(P_ID, USER);
+        postService.decreasePostVoteCount(P_ID, USER);
+
+        assertThat(voteCounts()).containsExactly(0L, 1L);
+        assertThat(postService.getMyPostVote(P_ID, USER)).isEqualTo(-1);
+
+        postService.increasePostVoteCount(P_ID, USER);
+
+        assertThat(voteCounts()).containsExactly(1L, 0L);
+        assertThat(postService.getMyPostVote(P_ID, USER)).isEqualTo(1);
+        assertThat(postService.getMyPostVote(P_ID, OTHER)).isZero();
+    }
+
+    @Test
+    void 추천을_비추천으로_바꾸면_줄어든_추천수로_인기도를_갱신한다() {
+        postService.increasePostVoteCount(P_ID, USER);
+        postService.decreasePostVoteCount(P_ID, USER);
+        postService.decreasePostVoteCount(P_ID, USER);
+
+        verify(hotPostService, times(1)).updateHotness(P_ID, 1L);
+        verify(hotPostService, times(1)).updateHotness(P_ID, 0L);
+    }
+
+    @Test
+    void 어긋난_합계는_장부와_이전_투표_기준으로_다시_계산된다() {
+        postService.increasePostVoteCount(P_ID, USER);
+        postService.decreasePostVoteCount(P_ID, OTHER);
+        redisTemplate.opsForHash().put(RedisKeyUtil.postCount(P_ID), RedisKeyUtil.POST_LEGACY_UP_VOTE, "5");
+
+        // 카운터가 장부와 어긋난 상황
+        redisTemplate.opsForHash().put(RedisKeyUtil.postCount(P_ID), RedisKeyUtil.POST_UP_VOTE, "42");
+        redisTemplate.opsForHash().put(RedisKeyUtil.postCount(P_ID), RedisKeyUtil.POST_DOWN_VOTE, "0");
+
+        PostCountForm counts = postService.recountPostVote(P_ID);
+
+        assertThat(counts.getUpVoteCount()).isEqualTo(6L);
+        assertThat(counts.getDownVoteCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 카운터가_없는_게시글은_다시_계산하지_않는다() {
+        redisTemplate.delete(RedisKeyUtil.postCount(P_ID));
+
+        postService.recountPostVote(P_ID);
+
+        assertThat(redisTemplate.hasKey(RedisKeyUtil.postCount(P_ID))).isFalse();
+    }
+
+    private List<Long> voteCounts() {
+        PostCountForm counts = postService.getPostCount(P_ID);
+        return List.of(counts.getUpVoteCount(), counts.getDownVoteCount());
+    }
+}
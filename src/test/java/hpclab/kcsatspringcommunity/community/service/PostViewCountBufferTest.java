@@ -0,0 +1,153 @@
+package hpclab.kcsatspringcommunity.community.service;
+
+import hpclab.kcsatspringcommunity.redis.RedisContainerTest;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+class PostViewCountBufferTest extends RedisContainerTest {
+
+    private static final Long P_ID = 1L;
+
+    private static final String VIEWED_KEY = RedisKeyUtil.postViewedMembers(P_ID, "20240301");
+
+    @Test
+    void 쌓인_조회_기록을_한_번에_반영한다() {
+        PostViewCountBuffer buffer = new PostViewCountBuffer(redisTemplate);
+
+        buffer.increase(P_ID, VIEWED_KEY, "1");
+        buffer.increase(P_ID, VIEWED_KEY, "2");
+        buffer.increase(P_ID, VIEWED_KEY, "3");
+        buffer.flush();
+
+        assertThat(viewCount()).isEqualTo("3");
+        assertThat(redisTemplate.opsForSet().size(VIEWED_KEY)).isEqualTo(3L);
+        assertThat(redisTemplate.getExpire(VIEWED_KEY)).isPositive();
+        assertThat(buffer.getPending(P_ID)).isZero();
+    }
+
+    @Test
+    void 같은_회원의_반복_조회는_한_번만_센다() {
+        PostViewCountBuffer buffer = new PostViewCountBuffer(redisTemplate);
+
+        buffer.increase(P_ID, VIEWED_KEY, "1");
+        buffer.increase(P_ID, VIEWED_KEY, "1");
+        assertThat(buffer.getPending(P_ID)).isEqualTo(1L);
+        buffer.flush();
+
+        // 다음 주기에 다시 조회해도 이미 Set에 있는 회원이므로 세지 않음
+        buffer.increase(P_ID, VIEWED_KEY, "1");
+        buffer.flush();
+
+        assertThat(viewCount()).isEqualTo("1");
+    }
+
+    @Test
+    void 다른_서버에서_먼저_반영한_회원은_세지_않는다() {
+        PostViewCountBuffer buffer = new PostViewCountBuffer(redisTemplate);
+        PostViewCountBuffer otherServer = new PostViewCountBuffer(redisTemplate);
+
+        otherServer.increase(P_ID, VIEWED_KEY, "1");
+        otherServer.flush();
+
+        buffer.increase(P_ID, VIEWED_KEY, "1");
+        buffer.increase(P_ID, VIEWED_KEY, "2");
+        buffer.flush();
+
+        assertThat(viewCount()).isEqualTo("2");
+    }
+
+    @Test
+    void 반영_후_실패한_배치를_다시_보내도_두_번_반영하지_않는다() {
+        // 파이프라인은 Redis에 반영되었지만 응답을 받지 못한 상황
+        StringRedisTemplate failingTemplate = spy(redisTemplate);
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            throw new RedisSystemException("connection reset", null);
+        }).doCallRealMethod().when(failingTemplate).executePipelined(any(RedisCallback.class));
+
+        PostViewCountBuffer buffer = new PostViewCountBuffer(failingTemplate);
+
+        buffer.increase(P_ID, VIEWED_KEY, "1");
+        buffer.increase(P_ID, VIEWED_KEY, "2");
+        buffer.flush();
+
+        assertThat(viewCount()).isEqualTo("2");
+        assertThat(buffer.getPending(P_ID)).isEqualTo(2L);
+
+        // 실패한 배치를 다시 보내는 동안 들어온 조회 기록은 다음 배치로 반영
+        buffer.increase(P_ID, VIEWED_KEY, "3");
+        buffer.flush();
+
+        assertThat(viewCount()).isEqualTo("2");
+        assertThat(buffer.getPending(P_ID)).isEqualTo(1L);
+
+        buffer.flush();
+
+        assertThat(viewCount()).isEqualTo("3");
+        assertThat(buffer.getPending(P_ID)).isZero();
+    }
+
+    @Test
+    void 반영하지_못한_배치는_다음_주기에_반영한다() {
+        StringRedisTemplate failingTemplate = spy(redisTemplate);
+        doAnswer(invocation -> {
+            throw new RedisSystemException("connection refused", null);
+        }).doCallRealMethod().when(failingTemplate).executePipelined(any(RedisCallback.class));
+
+        PostViewCountBuffer buffer = new PostViewCountBuffer(failingTemplate);
+
+        buffer.increase(P_ID, VIEWED_KEY, "1");
+        buffer.flush();
+
+        assertThat(viewCount()).isNull();
+        assertThat(buffer.getPending(P_ID)).isEqualTo(1L);
+
+        buffer.flush();
+
+        assertThat(viewCount()).isEqualTo("1");
+        assertThat(buffer.getPending(P_ID)).isZero();
+    }
+
+    @Test
+    void 반영과_조회_기록이_겹쳐도_조회를_잃어버리지_않는다() throws InterruptedException {
+        PostViewCountBuffer buffer = new PostViewCountBuffer(redisTemplate);
+        int members = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(members);
+
+        for (int mId = 0; mId < members; mId++) {
+            String member = String.valueOf(mId);
+            executor.execute(() -> {
+                buffer.increase(P_ID, VIEWED_KEY, member);
+                done.countDown();
+            });
+        }
+
+        while (done.getCount() > 0) {
+            buffer.flush();
+        }
+        done.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        buffer.flush();
+
+        assertThat(viewCount()).isEqualTo(String.valueOf(members));
+        assertThat(buffer.getPending(P_ID)).isZero();
+    }
+
+    private Object viewCount() {
+        return redisTemplate.opsForHash().get(RedisKeyUtil.postCount(P_ID), RedisKeyUtil.POST_VIEW_COUNT);
+    }
+}
@@ -0,0 +1,60 @@
+package hpclab.kcsatspringcommunity.live.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PostLivePublisherTest {
+
+    private final PostLivePublisher publisher = new PostLivePublisher(mock(StringRedisTemplate.class), new ObjectMapper());
+
+    @Test
+    void 기록된_변경_내역을_꺼내면_비워진다() {
+        publisher.markCountChanged(1L);
+        publisher.markCommentCountChanged(2L, 10L);
+        publisher.markCommentCountChanged(2L, 11L);
+
+        Map<Long, Set<Long>> drained = publisher.drainChanged();
+
+        assertThat(drained).containsOnlyKeys(1L, 2L);
+        assertThat(drained.get(1L)).isEmpty();
+        assertThat(drained.get(2L)).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(publisher.drainChanged()).isEmpty();
+    }
+
+    @Test
+    void 기록과_꺼내기가_겹쳐도_댓글_ID가_유실되지_않는다() throws InterruptedException {
+        int count = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(count);
+
+        for (long cId = 0; cId < count; cId++) {
+            long id = cId;
+            executor.execute(() -> {
+                publisher.markCommentCountChanged(id % 3, id);
+                done.countDown();
+            });
+        }
+
+        Set<Long> drainedCIds = new HashSet<>();
+        while (done.getCount() > 0) {
+            publisher.drainChanged().values().forEach(drainedCIds::addAll);
+        }
+        done.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        publisher.drainChanged().values().forEach(drainedCIds::addAll);
+
+        assertThat(drainedCIds).hasSize(count);
+    }
+}
@@ -0,0 +1,157 @@
+package hpclab.kcsatspringcommunity.question.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import hpclab.kcsatspringcommunity.question.dto.QuestionDetailsDto;
+import hpclab.kcsatspringcommunity.redis.RedisContainerTest;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class QuestionCacheTest extends RedisContainerTest {
+
+    private static final Long Q_ID = 1L;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final AtomicInteger shareCountLoads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void L1에_있으면_L2와_DB를_조회하지_않는다() {
+        QuestionCache cache = newCache();
+
+        cache.get(Q_ID, this::load);
+        redisTemplate.delete(RedisKeyUtil.questionCache(Q_ID));
+
+        assertThat(cache.get(Q_ID, this::load).getTitle()).isEqualTo("title");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void L1에_없으면_다른_서버가_채운_L2에서_읽는다() {
+        QuestionCache server = newCache();
+        QuestionCache otherServer = newCache();
+
+        otherServer.get(Q_ID, this::load);
+
+        QuestionDetailsDto question = server.get(Q_ID, this::load);
+
+        assertThat(question.getTitle()).isEqualTo("title");
+        assertThat(question.getChoices()).containsExactly("a", "b");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void 삭제하면_L2와_이_서버의_L1을_함께_삭제한다() {
+        QuestionCache cache = newCache();
+        cache.get(Q_ID, this::load);
+
+        cache.evict(Q_ID);
+
+        assertThat(redisTemplate.hasKey(RedisKeyUtil.questionCache(Q_ID))).isFalse();
+
+        cache.get(Q_ID, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void 다른_서버의_L1은_삭제_메시지를_받으면_삭제한다() {
+        QuestionCache server = newCache();
+        QuestionCache otherServer = newCache();
+        server.get(Q_ID, this::load);
+        otherServer.get(Q_ID, this::load);
+
+        server.evict(Q_ID);
+
+        // 메시지를 받기 전까지는 다른 서버의 L1이 남아있음
+        otherServer.get(Q_ID, this::load);
+        assertThat(loads).hasValue(1);
+
+        otherServer.onMessage(evictMessage(Q_ID), null);
+
+        otherServer.get(Q_ID, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void 트랜잭션_안에서_삭제하면_커밋된_후에_삭제한다() {
+        QuestionCache cache = newCache();
+        cache.get(Q_ID, this::load);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evict(Q_ID);
+
+        assertThat(redisTemplate.hasKey(RedisKeyUtil.questionCache(Q_ID))).isTrue();
+        cache.get(Q_ID, this::load);
+        assertThat(loads).hasValue(1);
+
+        commit();
+
+        assertThat(redisTemplate.hasKey(RedisKeyUtil.questionCache(Q_ID))).isFalse();
+        cache.get(Q_ID, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void 공유수_캐시만_삭제하면_상세_정보_캐시는_유지한다() {
+        QuestionCache cache = newCache();
+        cache.get(Q_ID, this::load);
+        assertThat(cache.getShareCounter(Q_ID, this::loadShareCount)).isEqualTo(1L);
+        assertThat(cache.getShareCounter(Q_ID, this::loadShareCount)).isEqualTo(1L);
+
+        cache.evictShareCounter(Q_ID);
+
+        assertThat(cache.getShareCounter(Q_ID, this::loadShareCount)).isEqualTo(2L);
+        cache.get(Q_ID, this::load);
+
+        assertThat(shareCountLoads).hasValue(2);
+        assertThat(loads).hasValue(1);
+        assertThat(redisTemplate.hasKey(RedisKeyUtil.questionCache(Q_ID))).isTrue();
+    }
+
+    private QuestionCache newCache() {
+        return new QuestionCache(redisTemplate, new ObjectMapper().findAndRegisterModules(),
+                mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry(),
+                100, 600, 600, 60);
+    }
+
+    private QuestionDetailsDto load() {
+        loads.incrementAndGet();
+        return new QuestionDetailsDto(Q_ID, QuestionType.PURPOSE, "title", "mainText", List.of("a", "b"),
+                null, null, null, null, null);
+    }
+
+    private Long loadShareCount() {
+        return (long) shareCountLoads.incrementAndGet();
+    }
+
+    private DefaultMessage evictMessage(Long qId) {
+        return new DefaultMessage(
+                RedisKeyUtil.QUESTION_CACHE_EVICT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                String.valueOf(qId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,84 @@
+package hpclab.kcsatspringcommunity.questionRank.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hpclab.kcsatspringcommunity.exception.ApiException;
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import hpclab.kcsatspringcommunity.question.dto.QuestionRankDto;
+import hpclab.kcsatspringcommunity.question.repository.QuestionRepository;
+import hpclab.kcsatspringcommunity.redis.RedisContainerTest;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class QuestionRankServiceImplTest extends RedisContainerTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+    private static final String PURPOSE_KEY = RedisKeyUtil.questionTypeRank(QuestionType.PURPOSE);
+
+    private QuestionRankServiceImpl questionRankService;
+
+    @BeforeEach
+    void setUp() {
+        questionRankService = new QuestionRankServiceImpl(mock(QuestionRepository.class), redisTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(questionRankService, "typeRankDepth", 3);
+    }
+
+    @Test
+    void 유형별_순위는_설정한_깊이만큼만_유지한다() {
+        for (long qId = 1; qId <= 5; qId++) {
+            questionRankService.updateQuestionTypeRank(share(qId, QuestionType.PURPOSE, qId * 10));
+        }
+
+        assertThat(redisTemplate.opsForZSet().reverseRange(PURPOSE_KEY, 0, -1)).containsExactly("5", "4", "3");
+    }
+
+    @Test
+    void 잘라낸_문제도_점수가_오르면_다시_순위에_오른다() {
+        for (long qId = 1; qId <= 4; qId++) {
+            questionRankService.updateQuestionTypeRank(share(qId, QuestionType.PURPOSE, qId * 10));
+        }
+
+        questionRankService.updateQuestionTypeRank(share(1L, QuestionType.PURPOSE, 100));
+
+        assertThat(redisTemplate.opsForZSet().reverseRange(PURPOSE_KEY, 0, -1)).containsExactly("1", "4", "3");
+    }
+
+    @Test
+    void 늦게_도착한_이전_공유수는_점수를_낮추지_않는다() {
+        questionRankService.updateQuestionTypeRank(share(1L, QuestionType.PURPOSE, 11));
+        Double score = redisTemplate.opsForZSet().score(PURPOSE_KEY, "1");
+
+        questionRankService.updateQuestionTypeRank(share(1L, QuestionType.PURPOSE, 10));
+
+        assertThat(redisTemplate.opsForZSet().score(PURPOSE_KEY, "1")).isEqualTo(score);
+    }
+
+    @Test
+    void 다른_유형의_순위는_잘라내지_않는다() {
+        for (long qId = 1; qId <= 4; qId++) {
+            questionRankService.updateQuestionTypeRank(share(qId, QuestionType.PURPOSE, qId * 10));
+        }
+        questionRankService.updateQuestionTypeRank(share(10L, QuestionType.MAIN_IDEA, 1));
+
+        assertThat(redisTemplate.opsForZSet().size(PURPOSE_KEY)).isEqualTo(3L);
+        assertThat(redisTemplate.opsForZSet().size(RedisKeyUtil.questionTypeRank(QuestionType.MAIN_IDEA))).isEqualTo(1L);
+    }
+
+    @Test
+    void 순위_깊이보다_많이_요청하면_예외가_발생한다() {
+        assertThatThrownBy(() -> questionRankService.getRankedQuestions(QuestionType.PURPOSE, 4))
+                .isInstanceOf(ApiException.class);
+    }
+
+    private QuestionRankDto share(Long qId, QuestionType type, long shareCounter) {
+        return new QuestionRankDto(qId, type, shareCounter, CREATED);
+    }
+}
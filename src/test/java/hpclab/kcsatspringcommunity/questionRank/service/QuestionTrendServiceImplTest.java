@@ -0,0 +1,124 @@
+package hpclab.kcsatspringcommunity.questionRank.service;
+
+import hpclab.kcsatspringcommunity.question.domain.Question;
+import hpclab.kcsatspringcommunity.question.domain.QuestionType;
+import hpclab.kcsatspringcommunity.question.dto.QuestionResponseForm;
+import hpclab.kcsatspringcommunity.question.repository.QuestionRepository;
+import hpclab.kcsatspringcommunity.questionRank.domain.TrendWindow;
+import hpclab.kcsatspringcommunity.redis.RedisContainerTest;
+import hpclab.kcsatspringcommunity.redis.RedisKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QuestionTrendServiceImplTest extends RedisContainerTest {
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private QuestionTrendServiceImpl questionTrendService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        QuestionRepository questionRepository = mock(QuestionRepository.class);
+        when(questionRepository.findAllWithChoicesByIdIn(anyList())).thenAnswer(invocation ->
+                ((List<Long>) invocation.getArgument(0)).stream().map(this::question).toList());
+
+        questionTrendService = new QuestionTrendServiceImpl(questionRepository, redisTemplate);
+        ReflectionTestUtils.setField(questionTrendService, "windowTtlSeconds", 30L);
+    }
+
+    @Test
+    void 일간_구간은_최근_24시간_버킷만_합산한다() {
+        LocalDateTime now = LocalDateTime.now(ZONE_SEOUL);
+
+        questionTrendService.recordShare(1L);
+        share(hourKey(now.minusHours(23)), 2L, 3);
+        share(hourKey(now.minusHours(24)), 3L, 10);
+
+        assertThat(trendingIds(TrendWindow.DAILY, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 주간_구간은_오늘을_포함한_7일_버킷만_합산한다() {
+        LocalDateTime now = LocalDateTime.now(ZONE_SEOUL);
+
+        questionTrendService.recordShare(1L);
+        share(dayKey(now.minusDays(6)), 1L, 1);
+        share(dayKey(now.minusDays(6)), 2L, 1);
+        share(dayKey(now.minusDays(7)), 3L, 10);
+
+        // 같은 문제의 여러 버킷 점수는 더해짐
+        assertThat(trendingIds(TrendWindow.WEEKLY, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 합산_결과는_유지_시간이_설정되고_그동안_다시_합산하지_않는다() {
+        questionTrendService.recordShare(1L);
+        assertThat(trendingIds(TrendWindow.DAILY, 10)).containsExactly(1L);
+
+        String windowKey = RedisKeyUtil.questionTrendWindow(TrendWindow.DAILY.name());
+        assertThat(redisTemplate.getExpire(windowKey)).isBetween(1L, 30L);
+
+        // 유지 시간 동안 들어온 공유는 다음 합산 때 반영
+        questionTrendService.recordShare(2L);
+        questionTrendService.recordShare(2L);
+        assertThat(trendingIds(TrendWindow.DAILY, 10)).containsExactly(1L);
+
+        redisTemplate.delete(windowKey);
+        assertThat(trendingIds(TrendWindow.DAILY, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 요청한_개수만큼만_반환한다() {
+        questionTrendService.recordShare(1L);
+        questionTrendService.recordShare(2L);
+        questionTrendService.recordShare(2L);
+
+        assertThat(trendingIds(TrendWindow.DAILY, 1)).containsExactly(2L);
+    }
+
+    @Test
+    void 공유된_문제가_없으면_빈_목록을_반환한다() {
+        assertThat(questionTrendService.getTrendingQuestions(TrendWindow.MONTHLY, 10)).isEmpty();
+    }
+
+    private List<Long> trendingIds(TrendWindow window, int size) {
+        return questionTrendService.getTrendingQuestions(window, size).stream().map(QuestionResponseForm::getQId).toList();
+    }
+
+    private void share(String bucketKey, Long qId, int count) {
+        redisTemplate.opsForZSet().incrementScore(bucketKey, String.valueOf(qId), count);
+    }
+
+    private String hourKey(LocalDateTime time) {
+        return RedisKeyUtil.questionTrendHour(time.format(HOUR_FORMAT));
+    }
+
+    private String dayKey(LocalDateTime time) {
+        return RedisKeyUtil.questionTrendDay(time.format(DAY_FORMAT));
+    }
+
+    private Question question(Long qId) {
+        return Question.builder()
+                .id(qId)
+                .type(QuestionType.PURPOSE)
+                .title("title")
+                .mainText("mainText")
+                .shareCounter(0L)
+                .choices(List.of())
+                .build();
+    }
+}